@@ -37,5 +37,6 @@ public class BookingRequest {
 
     private String phoneNumber;
 
+    @NotNull(message = "Total price is required")
     private BigDecimal totalPrice;
 }
\ No newline at end of file
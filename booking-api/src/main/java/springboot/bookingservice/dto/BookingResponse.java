@@ -0,0 +1,34 @@
+package springboot.bookingservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Builder;
+import springboot.bookingservice.mapper.IsoLocalDateTimeSerializer;
+import springboot.bookingservice.model.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A listed booking. {@code serviceIds} is a read-only view of the entity's collection rather
+ * than a copy. {@code partial} is only present, as {@code true}, when an enrichment upstream was
+ * unavailable and a name is a placeholder.
+ */
+@Builder
+public record BookingResponse(
+    UUID id,
+    UUID userId,
+    @JsonSerialize(using = IsoLocalDateTimeSerializer.class) LocalDateTime bookingDate,
+    BookingStatus status,
+    List<UUID> serviceIds,
+    UUID vehicleId,
+    String additionalNotes,
+    String paymentMethod,
+    String phoneNumber,
+    BigDecimal totalPrice,
+    String vehicleDescription,
+    String serviceNames,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Boolean partial) {
+}
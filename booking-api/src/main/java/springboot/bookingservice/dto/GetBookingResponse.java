@@ -0,0 +1,15 @@
+package springboot.bookingservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * {@code partial} is only present, as {@code true}, when at least one booking is.
+ */
+@Builder
+public record GetBookingResponse(
+    List<BookingResponse> bookings,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Boolean partial) {
+}
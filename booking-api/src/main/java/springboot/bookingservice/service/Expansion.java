@@ -0,0 +1,40 @@
+package springboot.bookingservice.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Optional, costly parts of a listed booking, requested with {@code ?expand=vehicle,services}.
+ */
+public enum Expansion {
+    VEHICLE,
+    SERVICES;
+
+    public static final Set<Expansion> NONE = Set.of();
+    public static final Set<Expansion> ALL = Set.of(values());
+
+    /**
+     * Every possible combination, e.g. for invalidating results cached per combination.
+     */
+    public static final List<Set<Expansion>> COMBINATIONS = List.of(NONE, Set.of(VEHICLE), Set.of(SERVICES), ALL);
+
+    /**
+     * Parses a comma-separated, case-insensitive list; {@code null} or blank means none.
+     *
+     * @throws IllegalArgumentException on an unknown name
+     */
+    public static Set<Expansion> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        Set<Expansion> expand = EnumSet.noneOf(Expansion.class);
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                expand.add(valueOf(part.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return Set.copyOf(expand);
+    }
+}
@@ -0,0 +1,130 @@
+package springboot.bookingservice.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * Bulk-inserts bookings straight into the service's H2 database (the service must have started
+ * once so Hibernate created the schema) and loads the user and booking IDs the traffic draws on.
+ */
+public class BookingSeeder {
+
+    private static final String INSERT_BOOKING = "insert into bookings (id, user_id, vehicle_id, booking_date, status, "
+            + "additional_notes, payment_method, phone_number, total_price, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SERVICE = "insert into booking_services (booking_id, service_id) values (?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * Status spread of seeded bookings, roughly that of a service with a few months of history.
+     */
+    private static final String[] STATUSES = {
+            "COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED",
+            "PENDING", "PENDING", "CONFIRMED", "CANCELLED"
+    };
+    private static final String[] PAYMENT_METHODS = {"CARD", "CARD", "CASH", "BANK_TRANSFER"};
+    private static final String[] NOTES = {null, null, "Please call on arrival", "Winter tyres", "Roof rack fitting"};
+
+    /**
+     * IDs the driver draws on: users to list bookings for and pending bookings to cancel or archive.
+     */
+    public record Pools(List<UUID> users, List<UUID> pendingBookings) {
+    }
+
+    private final String jdbcUrl;
+    private final RandomGenerator random;
+
+    public BookingSeeder(String jdbcUrl, RandomGenerator random) {
+        this.jdbcUrl = jdbcUrl;
+        this.random = random;
+    }
+
+    public long seed(int users, int bookingsPerUser) throws SQLException {
+        long rows = 0;
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> vehicles = new ArrayList<>();
+        List<UUID> services = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            vehicles.add(UUID.randomUUID());
+            services.add(UUID.randomUUID());
+        }
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "");
+             PreparedStatement bookings = connection.prepareStatement(INSERT_BOOKING);
+             PreparedStatement bookingServices = connection.prepareStatement(INSERT_SERVICE)) {
+            connection.setAutoCommit(false);
+            for (int u = 0; u < users; u++) {
+                UUID userId = UUID.randomUUID();
+                UUID vehicleId = vehicles.get(random.nextInt(vehicles.size()));
+                for (int b = 0; b < bookingsPerUser; b++) {
+                    UUID id = UUID.randomUUID();
+                    String status = STATUSES[random.nextInt(STATUSES.length)];
+                    LocalDateTime bookingDate = "COMPLETED".equals(status)
+                            ? now.minusHours(random.nextInt(24 * 120) + 1)
+                            : now.plusHours(random.nextInt(24 * 30) + 1);
+                    Timestamp created = Timestamp.valueOf(bookingDate.minusDays(random.nextInt(14) + 1));
+                    bookings.setObject(1, id);
+                    bookings.setObject(2, userId);
+                    bookings.setObject(3, vehicleId);
+                    bookings.setTimestamp(4, Timestamp.valueOf(bookingDate));
+                    bookings.setString(5, status);
+                    bookings.setString(6, NOTES[random.nextInt(NOTES.length)]);
+                    bookings.setString(7, PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)]);
+                    bookings.setString(8, "+3598" + (10_000_000 + random.nextInt(89_999_999)));
+                    bookings.setBigDecimal(9, BigDecimal.valueOf(2_000 + random.nextInt(48_000), 2));
+                    bookings.setTimestamp(10, created);
+                    bookings.setTimestamp(11, created);
+                    bookings.addBatch();
+                    int serviceCount = 1 + random.nextInt(3);
+                    for (int s = 0; s < serviceCount; s++) {
+                        bookingServices.setObject(1, id);
+                        bookingServices.setObject(2, services.get(random.nextInt(services.size())));
+                        bookingServices.addBatch();
+                    }
+                    if (++rows % BATCH_SIZE == 0) {
+                        flush(connection, bookings, bookingServices);
+                    }
+                }
+            }
+            flush(connection, bookings, bookingServices);
+        }
+        return rows;
+    }
+
+    public Pools loadPools(int maxUsers, int maxPending) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+            return new Pools(
+                    ids(connection, "select distinct user_id from bookings where user_id is not null limit ?", maxUsers),
+                    ids(connection, "select id from bookings where status = 'PENDING' limit ?", maxPending));
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement bookings, PreparedStatement services)
+            throws SQLException {
+        bookings.executeBatch();
+        services.executeBatch();
+        connection.commit();
+    }
+
+    private static List<UUID> ids(Connection connection, String sql, int limit) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getObject(1, UUID.class));
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,141 @@
+package springboot.bookingservice.loadtest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * Open-model traffic generator: requests are scheduled at a fixed arrival rate regardless of
+ * how fast the service answers, up to {@code maxInFlight} outstanding requests.
+ */
+public class LoadDriver {
+
+    private final LoadTestConfig config;
+    private final List<UUID> users;
+    private final Queue<UUID> pendingBookings;
+    private final RandomGenerator random;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public LoadDriver(LoadTestConfig config, BookingSeeder.Pools pools, RandomGenerator random) {
+        if (pools.users().isEmpty()) {
+            throw new IllegalStateException("No bookings to draw users from; seed with --bookings-per-user > 0");
+        }
+        this.config = config;
+        this.users = pools.users();
+        List<UUID> pending = new ArrayList<>(pools.pendingBookings());
+        Collections.shuffle(pending);
+        this.pendingBookings = new ConcurrentLinkedQueue<>(pending);
+        this.random = random;
+    }
+
+    /**
+     * Runs the warm-up and the measured phase.
+     *
+     * @return statistics of the measured phase per operation
+     */
+    public Map<Operation, OperationStats> run() throws InterruptedException {
+        if (!config.warmup().isZero()) {
+            drive(config.warmup(), null);
+        }
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        drive(config.duration(), stats);
+        return stats;
+    }
+
+    private void drive(Duration duration, Map<Operation, OperationStats> stats) throws InterruptedException {
+        Semaphore slots = new Semaphore(config.maxInFlight());
+        long interval = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long next = System.nanoTime();
+        long end = next + duration.toNanos();
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            slots.acquire();
+            long scheduled = next;
+            Operation operation = config.mix().next(random);
+            HttpRequest request = request(operation);
+            Operation actual = operation;
+            if (request == null) {
+                // ran out of pending bookings to cancel or archive
+                actual = Operation.LIST_BY_USER;
+                request = request(actual);
+            }
+            Operation recorded = actual;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                slots.release();
+                if (stats != null) {
+                    stats.get(recorded).record(System.nanoTime() - scheduled, error == null ? response.statusCode() : -1);
+                }
+            });
+            next += interval;
+        }
+        if (!slots.tryAcquire(config.maxInFlight(), 60, TimeUnit.SECONDS)) {
+            System.err.println("Timed out waiting for outstanding requests");
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        UUID user = users.get(random.nextInt(users.size()));
+        String base = config.baseUrl() + "/api/v1/bookings";
+        return switch (operation) {
+            case CREATE -> builder(base, user)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody(user)))
+                    .build();
+            case LIST_BY_USER -> builder(base + "?userId=" + user, user).GET().build();
+            case LIST_BY_STATUS -> builder(base + "?status="
+                    + config.listStatuses().get(random.nextInt(config.listStatuses().size())), user).GET().build();
+            case CANCEL, ARCHIVE -> {
+                UUID booking = pendingBookings.poll();
+                yield booking == null ? null : builder(base + "/" + booking + "/"
+                        + (operation == Operation.CANCEL ? "cancel" : "archive"), user)
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            }
+        };
+    }
+
+    private static HttpRequest.Builder builder(String url, UUID user) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-Client-Id", user.toString());
+    }
+
+    private String createBody(UUID user) {
+        StringBuilder services = new StringBuilder();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            services.append(i == 0 ? "" : ",").append('"').append(UUID.randomUUID()).append('"');
+        }
+        return "{\"userId\":\"" + user + "\","
+                + "\"bookingDate\":\"" + LocalDateTime.now().plusHours(1 + random.nextInt(24 * 30)).withNano(0) + "\","
+                + "\"serviceIds\":[" + services + "],"
+                + "\"vehicleId\":\"" + UUID.randomUUID() + "\","
+                + "\"paymentMethod\":\"CARD\","
+                + "\"phoneNumber\":\"+359888000000\","
+                + "\"totalPrice\":" + BigDecimal.valueOf(2_000 + random.nextInt(48_000), 2) + "}";
+    }
+}
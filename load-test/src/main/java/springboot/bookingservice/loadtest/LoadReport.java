@@ -0,0 +1,48 @@
+package springboot.bookingservice.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders throughput and latency percentiles per operation as a markdown table.
+ */
+public final class LoadReport {
+
+    private LoadReport() {
+    }
+
+    public static String render(LoadTestConfig config, Map<Operation, OperationStats> stats) {
+        StringBuilder out = new StringBuilder();
+        double seconds = config.duration().toMillis() / 1000.0;
+        out.append(String.format(Locale.ROOT, "# booking-service load test%n%n"
+                        + "%s, target %d req/s for %ss after %ss warm-up, max %d in flight.%n%n",
+                config.baseUrl(), config.rate(), seconds, config.warmup().toMillis() / 1000.0, config.maxInFlight()));
+        out.append("| operation | requests | req/s | ok | rejected | failed | p50 ms | p90 ms | p99 ms | p99.9 ms | max ms |\n");
+        out.append("|-----------|---------:|------:|---:|---------:|-------:|-------:|-------:|-------:|---------:|-------:|\n");
+        OperationStats total = new OperationStats();
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            if (entry.getValue().count() > 0) {
+                row(out, entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue(), seconds);
+                total.add(entry.getValue());
+            }
+        }
+        row(out, "**all**", total, seconds);
+        return out.toString();
+    }
+
+    public static void write(LoadTestConfig config, String report) throws IOException {
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        Files.writeString(config.report(), report);
+    }
+
+    private static void row(StringBuilder out, String name, OperationStats s, double seconds) {
+        out.append(String.format(Locale.ROOT, "| %s | %d | %.1f | %d | %d | %d | %.2f | %.2f | %.2f | %.2f | %.2f |%n",
+                name, s.count(), s.count() / seconds, s.ok(), s.rejected(), s.failed(),
+                s.percentileMillis(50), s.percentileMillis(90), s.percentileMillis(99), s.percentileMillis(99.9),
+                s.maxMillis()));
+    }
+}
@@ -0,0 +1,72 @@
+package springboot.bookingservice.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line settings, given as {@code --name=value}.
+ *
+ * @param baseUrl        booking-service root URL
+ * @param jdbcUrl        H2 database the service runs on, used for seeding
+ * @param users          distinct users to seed and to send traffic for
+ * @param bookingsPerUser bookings seeded per user; zero skips seeding
+ * @param rate           target requests per second (open model: arrivals do not wait for responses)
+ * @param maxInFlight    cap on outstanding requests; time spent waiting for a slot counts as latency
+ * @param warmup         unrecorded traffic before the measurement
+ * @param duration       measured traffic
+ * @param mix            operation weights, see {@link TrafficMix}
+ * @param listStatuses   statuses queried by list-by-status calls
+ * @param report         markdown report written after the run
+ */
+public record LoadTestConfig(String baseUrl, String jdbcUrl, int users, int bookingsPerUser, int rate,
+                             int maxInFlight, Duration warmup, Duration duration, TrafficMix mix,
+                             List<String> listStatuses, Path report) {
+
+    public static LoadTestConfig parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                values.getOrDefault("base-url", "http://localhost:8082"),
+                values.getOrDefault("jdbc-url", "jdbc:h2:file:./data/booking-loadtest;AUTO_SERVER=TRUE"),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Integer.parseInt(values.getOrDefault("bookings-per-user", "20")),
+                Integer.parseInt(values.getOrDefault("rate", "100")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "256")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "60s")),
+                TrafficMix.parse(values.getOrDefault("mix", TrafficMix.DEFAULT)),
+                Arrays.asList(values.getOrDefault("list-statuses", "CONFIRMED,CANCELLED").split(",")),
+                Path.of(values.getOrDefault("report", "target/load-test-report.md")));
+        values.keySet().removeAll(List.of("base-url", "jdbc-url", "users", "bookings-per-user", "rate",
+                "max-in-flight", "warmup", "duration", "mix", "list-statuses", "report"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        return config;
+    }
+
+    /**
+     * Parses "500ms", "30s" or "2m".
+     */
+    static Duration duration(String text) {
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration '" + text + "'");
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package springboot.bookingservice.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Seeds the booking database and replays a traffic mix against a running booking-service.
+ * Start the service with the {@code loadtest} profile first so both share the same H2 file:
+ *
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=loadtest
+ * mvn -f load-test/pom.xml compile exec:java -Dexec.args="--users=2000 --rate=300 --duration=2m"
+ * </pre>
+ *
+ * Options (defaults in {@link LoadTestConfig#parse}): base-url, jdbc-url, users,
+ * bookings-per-user, rate, max-in-flight, warmup, duration, mix, list-statuses, report.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        RandomGenerator random = new SplittableRandom();
+        BookingSeeder seeder = new BookingSeeder(config.jdbcUrl(), random);
+
+        if (config.bookingsPerUser() > 0) {
+            long start = System.nanoTime();
+            long rows = seeder.seed(config.users(), config.bookingsPerUser());
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Seeded %d bookings for %d users in %.1fs%n", rows, config.users(), seconds);
+        }
+        BookingSeeder.Pools pools = seeder.loadPools(config.users(), config.rate() * (int) config.duration().toSeconds());
+        System.out.printf("Driving %d req/s against %s (%d users, %d pending bookings)%n",
+                config.rate(), config.baseUrl(), pools.users().size(), pools.pendingBookings().size());
+
+        Map<Operation, OperationStats> stats = new LoadDriver(config, pools, random).run();
+
+        String report = LoadReport.render(config, stats);
+        System.out.println(report);
+        LoadReport.write(config, report);
+        System.out.println("Report written to " + config.report().toAbsolutePath());
+    }
+}
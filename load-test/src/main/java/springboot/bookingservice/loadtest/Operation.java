@@ -0,0 +1,12 @@
+package springboot.bookingservice.loadtest;
+
+/**
+ * Calls of the booking API replayed by the driver, matching {@code BookingController}.
+ */
+public enum Operation {
+    CREATE,
+    LIST_BY_USER,
+    LIST_BY_STATUS,
+    CANCEL,
+    ARCHIVE
+}
@@ -0,0 +1,70 @@
+package springboot.bookingservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters of one operation. Latencies are measured from the
+ * request's scheduled start, so stalls of the service also delay (and count against) the
+ * requests queued behind them.
+ */
+public class OperationStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param status HTTP status, or -1 when the request did not complete
+     */
+    public void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else if (status == 429 || status == 503) {
+            rejected.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    public long count() {
+        return latencies.getTotalCount();
+    }
+
+    public long ok() {
+        return ok.sum();
+    }
+
+    /**
+     * Requests shed by the service's rate or concurrency limits (429/503).
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    public double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    void add(OperationStats other) {
+        latencies.add(other.latencies);
+        ok.add(other.ok());
+        rejected.add(other.rejected());
+        failed.add(other.failed());
+    }
+}
@@ -0,0 +1,68 @@
+package springboot.bookingservice.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Relative weights of the replayed operations, parsed from e.g.
+ * {@code create=15,list_by_user=60,list_by_status=5,cancel=12,archive=8}.
+ */
+public final class TrafficMix {
+
+    public static final String DEFAULT = "create=15,list_by_user=60,list_by_status=5,cancel=12,archive=8";
+
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private TrafficMix(Map<Operation, Integer> weights) {
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Traffic mix needs at least one positive weight");
+        }
+        this.total = sum;
+    }
+
+    public static TrafficMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight but got '" + part + "'");
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + kv[0]);
+            }
+            weights.put(Operation.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        return new TrafficMix(weights);
+    }
+
+    public Operation next(RandomGenerator random) {
+        int pick = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    public double share(Operation operation) {
+        for (int i = 0; i < operations.length; i++) {
+            if (operations[i] == operation) {
+                return (cumulative[i] - (i == 0 ? 0 : cumulative[i - 1])) / (double) total;
+            }
+        }
+        return 0;
+    }
+}
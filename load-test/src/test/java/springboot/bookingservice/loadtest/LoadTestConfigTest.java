@@ -0,0 +1,54 @@
+package springboot.bookingservice.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LoadTestConfigTest {
+
+    @Test
+    @DisplayName("Parses options and falls back to defaults")
+    void parse() {
+        LoadTestConfig config = LoadTestConfig.parse("--rate=250", "--duration=2m", "--warmup=500ms",
+                "--mix=create=1,cancel=3");
+
+        assertThat(config.rate()).isEqualTo(250);
+        assertThat(config.duration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(config.warmup()).isEqualTo(Duration.ofMillis(500));
+        assertThat(config.baseUrl()).isEqualTo("http://localhost:8082");
+        assertThat(config.mix().share(Operation.CANCEL)).isEqualTo(0.75);
+        assertThat(config.mix().share(Operation.ARCHIVE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Rejects unknown options and malformed mixes")
+    void rejectsBadInput() {
+        assertThatThrownBy(() -> LoadTestConfig.parse("--rps=10")).hasMessageContaining("rps");
+        assertThatThrownBy(() -> TrafficMix.parse("create")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TrafficMix.parse("create=0")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Draws operations in proportion to their weights")
+    void mixDistribution() {
+        TrafficMix mix = TrafficMix.parse(TrafficMix.DEFAULT);
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        int draws = 100_000;
+        for (int i = 0; i < draws; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        for (Operation operation : Operation.values()) {
+            assertThat(counts.get(operation) / (double) draws).isCloseTo(mix.share(operation), within(0.01));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package springboot.bookingservice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Non-blocking variant of the booking service: the same {@code api/v1/bookings} contract on
+ * WebFlux and R2DBC, sharing the DTOs of the MVC service.
+ */
+@SpringBootApplication
+public class ReactiveBookingApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveBookingApplication.class, args);
+    }
+}
@@ -0,0 +1,111 @@
+package springboot.bookingservice.reactive.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.reactive.service.ReactiveBookingService;
+import springboot.bookingservice.service.Expansion;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Same contract as the MVC {@code BookingController}, including {@code expand=vehicle,services}
+ * for the names of listed bookings. List queries can additionally be streamed one booking per
+ * line by asking for {@code application/x-ndjson}.
+ */
+@RestController
+@RequestMapping("api/v1/bookings")
+public class ReactiveBookingController {
+
+  private final ReactiveBookingService bookingService;
+
+  @Autowired
+  public ReactiveBookingController(ReactiveBookingService bookingService) {
+    this.bookingService = bookingService;
+  }
+
+  @PostMapping
+  public Mono<ResponseEntity<Void>> createBooking(@Valid @RequestBody BookingRequest request) {
+    return bookingService.createBooking(request)
+        .thenReturn(ResponseEntity.ok().build());
+  }
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<GetBookingResponse>> getBookings(
+      @RequestParam(value = "userId", required = false) UUID userId,
+      @RequestParam(value = "status", required = false) String status,
+      @RequestParam(value = "expand", required = false) String expand) {
+
+    Set<Expansion> expansions;
+    try {
+      expansions = Expansion.parse(expand);
+    } catch (IllegalArgumentException e) {
+      return Mono.just(ResponseEntity.badRequest().build());
+    }
+
+    if (userId == null && status == null) {
+      return Mono.just(ResponseEntity.badRequest().build());
+    }
+    return query(userId, status, expansions)
+        .collectList()
+        .map(bookings -> ResponseEntity.ok(GetBookingResponse.builder().bookings(bookings).build()))
+        .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+  }
+
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<BookingResponse> streamBookings(
+      @RequestParam(value = "userId", required = false) UUID userId,
+      @RequestParam(value = "status", required = false) String status,
+      @RequestParam(value = "expand", required = false) String expand) {
+
+    Set<Expansion> expansions;
+    try {
+      expansions = Expansion.parse(expand);
+    } catch (IllegalArgumentException e) {
+      return Flux.error(e);
+    }
+
+    if (userId == null && status == null) {
+      return Flux.error(new IllegalArgumentException("Either userId or status is required"));
+    }
+    return query(userId, status, expansions);
+  }
+
+  private Flux<BookingResponse> query(UUID userId, String status, Set<Expansion> expand) {
+    return userId != null
+        ? bookingService.getBookingsByUser(userId, expand)
+        : bookingService.getBookingsByStatus(status, expand);
+  }
+
+  /**
+   * Endpoint to cancel a booking.
+   * Called by Scheduler when time expires.
+   */
+  @PostMapping("/{id}/cancel")
+  public Mono<ResponseEntity<Void>> cancelBooking(@PathVariable("id") UUID bookingId) {
+    return bookingService.cancelBooking(bookingId).thenReturn(ResponseEntity.ok().build());
+  }
+
+  /**
+   * Endpoint to archive a booking.
+   * Called by Scheduler for old data.
+   */
+  @PostMapping("/{id}/archive")
+  public Mono<ResponseEntity<Void>> archiveBooking(@PathVariable("id") UUID bookingId) {
+    return bookingService.archiveBooking(bookingId).thenReturn(ResponseEntity.ok().build());
+  }
+}
@@ -0,0 +1,65 @@
+package springboot.bookingservice.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of the {@code bookings} table, laid out like the JPA entity of the MVC service. Service
+ * IDs live in {@code booking_services} and are loaded separately.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("bookings")
+public class BookingRow implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    private LocalDateTime bookingDate;
+
+    private String status;
+
+    private String additionalNotes;
+
+    private String paymentMethod;
+
+    private String phoneNumber;
+
+    private BigDecimal totalPrice;
+
+    private LocalDateTime estimatedCompletionTime;
+
+    private LocalDateTime actualCompletionTime;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private UUID userId;
+
+    private UUID vehicleId;
+
+    /**
+     * IDs are assigned by the service, so inserts have to be flagged explicitly.
+     */
+    @Transient
+    @Builder.Default
+    private boolean newRow = false;
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+}
@@ -0,0 +1,55 @@
+package springboot.bookingservice.reactive.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Access to the {@code booking_services} collection table, which R2DBC cannot map as part of
+ * the booking row.
+ */
+@Repository
+public class BookingServiceIdRepository {
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public BookingServiceIdRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Void> insert(UUID bookingId, List<UUID> serviceIds) {
+        return Flux.fromIterable(serviceIds)
+                .concatMap(serviceId -> databaseClient
+                        .sql("INSERT INTO booking_services (booking_id, service_id) VALUES (:bookingId, :serviceId)")
+                        .bind("bookingId", bookingId)
+                        .bind("serviceId", serviceId)
+                        .then())
+                .then();
+    }
+
+    /**
+     * Loads the service IDs of several bookings with one query.
+     */
+    public Mono<Map<UUID, List<UUID>>> findByBookingIds(Collection<UUID> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient
+                .sql("SELECT booking_id, service_id FROM booking_services WHERE booking_id IN (:ids)")
+                .bind("ids", bookingIds)
+                .map((row, meta) -> Map.entry(row.get("booking_id", UUID.class), row.get("service_id", UUID.class)))
+                .all()
+                .collect(HashMap::new, (Map<UUID, List<UUID>> map, Map.Entry<UUID, UUID> e) ->
+                        map.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue()));
+    }
+}
@@ -0,0 +1,16 @@
+package springboot.bookingservice.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import springboot.bookingservice.reactive.model.BookingRow;
+
+import java.util.UUID;
+
+@Repository
+public interface ReactiveBookingRepository extends R2dbcRepository<BookingRow, UUID> {
+
+    Flux<BookingRow> findByUserId(UUID userId);
+
+    Flux<BookingRow> findByStatus(String status);
+}
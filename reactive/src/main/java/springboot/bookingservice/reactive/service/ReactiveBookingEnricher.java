@@ -0,0 +1,59 @@
+package springboot.bookingservice.reactive.service;
+
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.reactive.model.BookingRow;
+import springboot.bookingservice.service.Expansion;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Maps booking rows to responses enriched with the requested vehicle and service names. Lookups
+ * return {@link Mono}s so a remote implementation (e.g. on WebClient) would not block the event loop.
+ */
+@Component
+public class ReactiveBookingEnricher {
+
+    /**
+     * Runs only the lookups in {@code expand}; names not requested are left {@code null}, like the
+     * MVC service.
+     */
+    public Mono<BookingResponse> enrichAndMap(BookingRow booking, List<UUID> serviceIds, Set<Expansion> expand) {
+        Mono<Optional<String>> vehicleName = expand.contains(Expansion.VEHICLE)
+                ? getVehicleName(booking.getVehicleId()).map(Optional::of)
+                : Mono.just(Optional.empty());
+        Mono<Optional<String>> serviceNames = expand.contains(Expansion.SERVICES)
+                ? getServiceNames(serviceIds).map(Optional::of)
+                : Mono.just(Optional.empty());
+        return Mono.zip(vehicleName, serviceNames)
+                .map(names -> BookingResponse.builder()
+                        .id(booking.getId())
+                        .userId(booking.getUserId())
+                        .bookingDate(booking.getBookingDate())
+                        .status(BookingStatus.valueOf(booking.getStatus()))
+                        .serviceIds(serviceIds)
+                        .vehicleId(booking.getVehicleId())
+                        .additionalNotes(booking.getAdditionalNotes())
+                        .paymentMethod(booking.getPaymentMethod())
+                        .phoneNumber(booking.getPhoneNumber())
+                        .totalPrice(booking.getTotalPrice())
+                        .vehicleDescription(names.getT1().orElse(null))
+                        .serviceNames(names.getT2().orElse(null))
+                        .build());
+    }
+
+    private Mono<String> getVehicleName(UUID vehicleId) {
+        if (vehicleId == null) return Mono.just("Unknown Vehicle");
+        return Mono.just("Vehicle " + vehicleId.toString().substring(0, 5) + "...");
+    }
+
+    private Mono<String> getServiceNames(List<UUID> serviceIds) {
+        if (serviceIds == null || serviceIds.isEmpty()) return Mono.just("No Services");
+        return Mono.just(serviceIds.size() + " Service(s) Selected");
+    }
+}
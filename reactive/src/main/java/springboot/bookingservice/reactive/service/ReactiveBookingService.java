@@ -0,0 +1,125 @@
+package springboot.bookingservice.reactive.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.reactive.model.BookingRow;
+import springboot.bookingservice.reactive.repository.BookingServiceIdRepository;
+import springboot.bookingservice.reactive.repository.ReactiveBookingRepository;
+import springboot.bookingservice.service.Expansion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class ReactiveBookingService {
+
+    private final ReactiveBookingRepository bookingRepository;
+    private final BookingServiceIdRepository serviceIdRepository;
+    private final ReactiveBookingEnricher bookingEnricher;
+    private final TransactionalOperator transactionalOperator;
+    private final int enrichmentBatchSize;
+
+    @Autowired
+    public ReactiveBookingService(ReactiveBookingRepository bookingRepository,
+                                  BookingServiceIdRepository serviceIdRepository,
+                                  ReactiveBookingEnricher bookingEnricher,
+                                  TransactionalOperator transactionalOperator,
+                                  @Value("${booking.reactive.enrichment-batch-size:100}") int enrichmentBatchSize) {
+        this.bookingRepository = bookingRepository;
+        this.serviceIdRepository = serviceIdRepository;
+        this.bookingEnricher = bookingEnricher;
+        this.transactionalOperator = transactionalOperator;
+        this.enrichmentBatchSize = enrichmentBatchSize;
+    }
+
+    /**
+     * Create a new booking.
+     */
+    public Mono<UUID> createBooking(BookingRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        BookingRow booking = BookingRow.builder()
+                .id(UUID.randomUUID())
+                .userId(request.getUserId())
+                .bookingDate(request.getBookingDate())
+                .status(BookingStatus.PENDING.name())
+                .additionalNotes(request.getAdditionalNotes())
+                .totalPrice(request.getTotalPrice())
+                .vehicleId(request.getVehicleId())
+                .paymentMethod(request.getPaymentMethod())
+                .phoneNumber(request.getPhoneNumber())
+                .createdAt(now)
+                .updatedAt(now)
+                .newRow(true)
+                .build();
+
+        return bookingRepository.save(booking)
+                .flatMap(saved -> serviceIdRepository.insert(saved.getId(), request.getServiceIds()).thenReturn(saved.getId()))
+                .as(transactionalOperator::transactional)
+                .doOnNext(id -> log.info("Booking created with ID: {}", id));
+    }
+
+    /**
+     * Get bookings by User ID, enriched with the requested names.
+     */
+    public Flux<BookingResponse> getBookingsByUser(UUID userId, Set<Expansion> expand) {
+        return enrich(bookingRepository.findByUserId(userId), expand);
+    }
+
+    /**
+     * Get bookings by Status, enriched with the requested names. Fails with
+     * {@link IllegalArgumentException} for unknown statuses.
+     */
+    public Flux<BookingResponse> getBookingsByStatus(String status, Set<Expansion> expand) {
+        return Mono.fromCallable(() -> BookingStatus.valueOf(status.toUpperCase()))
+                .doOnError(e -> log.error("Invalid status requested: {}", status))
+                .flatMapMany(statusEnum -> enrich(bookingRepository.findByStatus(statusEnum.name()), expand));
+    }
+
+    public Mono<Void> cancelBooking(UUID bookingId) {
+        return updateStatus(bookingId, BookingStatus.CANCELLED);
+    }
+
+    public Mono<Void> archiveBooking(UUID bookingId) {
+        return updateStatus(bookingId, BookingStatus.ARCHIVED);
+    }
+
+    private Mono<Void> updateStatus(UUID bookingId, BookingStatus status) {
+        return bookingRepository.findById(bookingId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Booking not found")))
+                .flatMap(booking -> {
+                    booking.setStatus(status.name());
+                    booking.setUpdatedAt(LocalDateTime.now());
+                    return bookingRepository.save(booking);
+                })
+                .as(transactionalOperator::transactional)
+                .then();
+    }
+
+    /**
+     * Enriches rows in batches: each batch loads its service IDs with one query, and only
+     * {@code enrichmentBatchSize} rows are requested from the database ahead of the subscriber.
+     */
+    private Flux<BookingResponse> enrich(Flux<BookingRow> rows, Set<Expansion> expand) {
+        return rows
+                .buffer(enrichmentBatchSize)
+                .concatMap(batch -> serviceIdRepository.findByBookingIds(batch.stream().map(BookingRow::getId).toList())
+                        .flatMapMany(serviceIds -> Flux.fromIterable(batch)
+                                .concatMap(row -> bookingEnricher.enrichAndMap(row, serviceIdsOf(serviceIds, row), expand))), 1);
+    }
+
+    private static List<UUID> serviceIdsOf(Map<UUID, List<UUID>> serviceIds, BookingRow row) {
+        return serviceIds.getOrDefault(row.getId(), List.of());
+    }
+}
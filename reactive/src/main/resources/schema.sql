@@ -0,0 +1,26 @@
+-- Same layout as the tables Hibernate generates for the MVC service
+CREATE TABLE IF NOT EXISTS bookings (
+    id                        UUID PRIMARY KEY,
+    booking_date              TIMESTAMP(6)   NOT NULL,
+    status                    VARCHAR(255)   NOT NULL,
+    additional_notes          VARCHAR(255),
+    payment_method            VARCHAR(255),
+    phone_number              VARCHAR(255),
+    total_price               NUMERIC(38, 2) NOT NULL,
+    estimated_completion_time TIMESTAMP(6),
+    actual_completion_time    TIMESTAMP(6),
+    created_at                TIMESTAMP(6),
+    updated_at                TIMESTAMP(6),
+    user_id                   UUID,
+    vehicle_id                UUID
+);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_user_id ON bookings (user_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_status_date ON bookings (status, booking_date);
+
+CREATE TABLE IF NOT EXISTS booking_services (
+    booking_id UUID NOT NULL REFERENCES bookings (id),
+    service_id UUID
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_services_booking_id ON booking_services (booking_id);
@@ -0,0 +1,191 @@
+package springboot.bookingservice.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import springboot.bookingservice.dto.BookingRequest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same mixed workload (80% bookings-by-user reads, 20% creates) against the MVC
+ * service and this module, and prints latency percentiles and throughput for both. Start the
+ * MVC service with rate limiting off and point the test at it:
+ *
+ * <pre>
+ * java -jar target/booking-service-0.0.1-SNAPSHOT.jar --booking.rate-limit.enabled=false \
+ *     --spring.datasource.url=jdbc:h2:mem:loadtest --spring.jpa.show-sql=false
+ * mvn -f reactive/pom.xml test -Dtest=ComparativeLoadTest -Dloadtest.mvc-url=http://localhost:8082
+ * </pre>
+ *
+ * Tunable with {@code -Dloadtest.concurrency}, {@code -Dloadtest.duration} (seconds) and
+ * {@code -Dloadtest.users}.
+ */
+@EnabledIfSystemProperty(named = "loadtest.mvc-url", matches = "https?://.+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-load-test;DB_CLOSE_DELAY=-1",
+        "logging.level.springboot.bookingservice=WARN",
+        "server.shutdown=immediate"
+})
+class ComparativeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.duration", 20));
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int BOOKINGS_PER_USER = 10;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Compares latency and throughput of the MVC and reactive services")
+    void compare() throws Exception {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(UUID.randomUUID());
+        }
+        String mvc = System.getProperty("loadtest.mvc-url");
+        String reactive = "http://localhost:" + port;
+
+        Result mvcResult = run("mvc", mvc, users);
+        Result reactiveResult = run("reactive", reactive, users);
+
+        System.out.printf("%n%-9s %10s %9s %9s %9s %9s %7s%n", "stack", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        mvcResult.print();
+        reactiveResult.print();
+
+        assertThat(mvcResult.errors).isZero();
+        assertThat(reactiveResult.errors).isZero();
+    }
+
+    private Result run(String name, String baseUrl, List<UUID> users) throws Exception {
+        for (UUID user : users) {
+            for (int i = 0; i < BOOKINGS_PER_USER; i++) {
+                send(create(baseUrl, user));
+            }
+        }
+        drive(baseUrl, users, Duration.ofSeconds(5));
+        return drive(baseUrl, users, DURATION).named(name);
+    }
+
+    private Result drive(String baseUrl, List<UUID> users, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> workers = new ArrayList<>();
+        for (int w = 0; w < CONCURRENCY; w++) {
+            workers.add(executor.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                int errors = 0;
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    UUID user = users.get(random.nextInt(users.size()));
+                    HttpRequest request = random.nextInt(10) < 8
+                            ? HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/bookings?userId=" + user)).GET().build()
+                            : create(baseUrl, user);
+                    long start = System.nanoTime();
+                    int status = send(request);
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                    if (status != 200) {
+                        errors++;
+                    }
+                }
+                long[] result = Arrays.copyOf(latencies, count + 1);
+                result[count] = errors;
+                return result;
+            }));
+        }
+        List<long[]> perWorker = new ArrayList<>();
+        for (Future<long[]> worker : workers) {
+            perWorker.add(worker.get());
+        }
+        executor.shutdown();
+        return Result.of(perWorker, duration);
+    }
+
+    private HttpRequest create(String baseUrl, UUID user) throws Exception {
+        BookingRequest body = BookingRequest.builder()
+                .userId(user)
+                .bookingDate(LocalDateTime.now().plusDays(7))
+                .serviceIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .vehicleId(UUID.randomUUID())
+                .paymentMethod("CARD")
+                .phoneNumber("+100000000")
+                .totalPrice(new BigDecimal("120.00"))
+                .additionalNotes("load test")
+                .build();
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/bookings"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private record Result(String name, long[] sortedNanos, long errors, Duration duration) {
+
+        static Result of(List<long[]> perWorker, Duration duration) {
+            long errors = 0;
+            int total = 0;
+            for (long[] w : perWorker) {
+                errors += w[w.length - 1];
+                total += w.length - 1;
+            }
+            long[] all = new long[total];
+            int pos = 0;
+            for (long[] w : perWorker) {
+                System.arraycopy(w, 0, all, pos, w.length - 1);
+                pos += w.length - 1;
+            }
+            Arrays.sort(all);
+            return new Result(null, all, errors, duration);
+        }
+
+        Result named(String name) {
+            return new Result(name, sortedNanos, errors, duration);
+        }
+
+        double percentileMillis(double p) {
+            if (sortedNanos.length == 0) return 0;
+            int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(p / 100 * sortedNanos.length) - 1);
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+
+        void print() {
+            System.out.printf("%-9s %10.0f %9.2f %9.2f %9.2f %9.2f %7d%n", name,
+                    sortedNanos.length / (double) duration.toSeconds(),
+                    percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100), errors);
+        }
+    }
+}
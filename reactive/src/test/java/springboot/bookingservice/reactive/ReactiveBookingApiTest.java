@@ -0,0 +1,153 @@
+package springboot.bookingservice.reactive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.reactive.service.ReactiveBookingService;
+import springboot.bookingservice.service.Expansion;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-api-test;DB_CLOSE_DELAY=-1",
+        "booking.reactive.enrichment-batch-size=2"
+})
+class ReactiveBookingApiTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveBookingService bookingService;
+
+    @Test
+    @DisplayName("Creates a booking and returns it enriched with the requested names, like the MVC service")
+    void createAndGetByUser() {
+        UUID userId = UUID.randomUUID();
+        BookingRequest request = request(userId);
+
+        webTestClient.post().uri("/api/v1/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk();
+
+        GetBookingResponse response = webTestClient.get().uri("/api/v1/bookings?userId={id}&expand=vehicle,services", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(GetBookingResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(response.bookings()).singleElement().satisfies(b -> {
+            assertThat(b.status()).isEqualTo(BookingStatus.PENDING);
+            assertThat(b.serviceIds()).containsExactlyElementsOf(request.getServiceIds());
+            assertThat(b.vehicleDescription()).startsWith("Vehicle ");
+            assertThat(b.serviceNames()).isEqualTo("2 Service(s) Selected");
+        });
+    }
+
+    @Test
+    @DisplayName("Looks up only the expanded names and rejects unknown expansions")
+    void expansions() {
+        UUID userId = UUID.randomUUID();
+        bookingService.createBooking(request(userId)).block();
+
+        GetBookingResponse plain = webTestClient.get().uri("/api/v1/bookings?userId={id}", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(GetBookingResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(plain.bookings()).singleElement().satisfies(b -> {
+            assertThat(b.vehicleDescription()).isNull();
+            assertThat(b.serviceNames()).isNull();
+        });
+
+        StepVerifier.create(bookingService.getBookingsByUser(userId, Set.of(Expansion.SERVICES)))
+                .assertNext(b -> {
+                    assertThat(b.vehicleDescription()).isNull();
+                    assertThat(b.serviceNames()).isEqualTo("2 Service(s) Selected");
+                })
+                .verifyComplete();
+
+        webTestClient.get().uri("/api/v1/bookings?userId={id}&expand=owner", userId)
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/v1/bookings?userId={id}&expand=owner", userId)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Streams bookings as NDJSON across enrichment batches")
+    void streamsByUser() {
+        UUID userId = UUID.randomUUID();
+        Flux.range(0, 5).concatMap(i -> bookingService.createBooking(request(userId))).blockLast();
+
+        Flux<BookingResponse> stream = webTestClient.get().uri("/api/v1/bookings?userId={id}", userId)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(BookingResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(stream)
+                .thenConsumeWhile(b -> b.userId().equals(userId) && b.serviceIds().size() == 2)
+                .verifyComplete();
+        StepVerifier.create(bookingService.getBookingsByUser(userId, Expansion.NONE).count())
+                .expectNext(5L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Cancels a booking and rejects unknown IDs, statuses and invalid requests")
+    void cancelAndErrors() {
+        UUID userId = UUID.randomUUID();
+        UUID id = bookingService.createBooking(request(userId)).block();
+
+        webTestClient.post().uri("/api/v1/bookings/{id}/cancel", id).exchange().expectStatus().isOk();
+        StepVerifier.create(bookingService.getBookingsByUser(userId, Expansion.NONE).map(BookingResponse::status))
+                .expectNext(BookingStatus.CANCELLED)
+                .verifyComplete();
+
+        webTestClient.post().uri("/api/v1/bookings/{id}/cancel", UUID.randomUUID())
+                .exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody().jsonPath("$.message").isEqualTo("Booking not found");
+        webTestClient.get().uri("/api/v1/bookings?status=nope").exchange().expectStatus().isBadRequest();
+        webTestClient.get().uri("/api/v1/bookings").exchange().expectStatus().isBadRequest();
+        webTestClient.post().uri("/api/v1/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookingRequest())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").value(m -> assertThat((String) m).contains("userId"));
+    }
+
+    private static BookingRequest request(UUID userId) {
+        return BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(LocalDateTime.now().plusDays(3))
+                .serviceIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .vehicleId(UUID.randomUUID())
+                .paymentMethod("CARD")
+                .phoneNumber("+123456789")
+                .totalPrice(new BigDecimal("99.99"))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Compares startup time and resident memory of booking-service in three modes and writes
+# target/startup-report.md:
+#   jvm          plain executable jar
+#   jvm-cds-aot  extracted jar + Spring AOT initializers + a CDS archive from a training run
+#   native       GraalVM native executable (only if target/booking-service exists, see -Pnative)
+#
+# Usage: scripts/startup-report.sh <exec jar> [runs]
+# The jar must have been built with -Pcds so it contains the AOT-generated classes. Note that
+# AOT fixes @ConditionalOnProperty decisions (replicas, sharding, async ingest) at build time.
+set -euo pipefail
+
+JAR=$(realpath "$1")
+RUNS=${2:-3}
+TARGET=$(dirname "$JAR")
+WORK="$TARGET/startup"
+REPORT="$TARGET/startup-report.md"
+APP_ARGS=(--server.port=0 --spring.datasource.url=jdbc:h2:mem:startup --spring.jpa.show-sql=false)
+
+rm -rf "$WORK" && mkdir -p "$WORK"
+
+echo "Extracting $JAR for CDS"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app" > /dev/null
+EXTRACTED="$WORK/app/$(basename "$JAR")"
+
+echo "Training run to record the CDS archive"
+java -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$EXTRACTED" "${APP_ARGS[@]}" > "$WORK/training.log" 2>&1
+
+# Starts a command, waits for the "Started Application" line and prints "<seconds> <rss MB>".
+measure() {
+    local log="$WORK/run.log"
+    "$@" "${APP_ARGS[@]}" > "$log" 2>&1 &
+    local pid=$!
+    for _ in $(seq 1 600); do
+        if grep -q "Started Application in" "$log"; then
+            break
+        fi
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited during startup, see $log" >&2
+            exit 1
+        fi
+        sleep 0.1
+    done
+    local seconds rss
+    seconds=$(grep -o "Started Application in [0-9.]* seconds" "$log" | awk '{print $4}')
+    rss=$(awk '/VmRSS/ {printf "%.0f", $2 / 1024}' "/proc/$pid/status" 2> /dev/null || ps -o rss= -p "$pid" | awk '{printf "%.0f", $1 / 1024}')
+    kill "$pid" && wait "$pid" 2> /dev/null || true
+    echo "$seconds $rss"
+}
+
+# Runs a mode $RUNS times and appends the median startup time and RSS to the report.
+report() {
+    local mode=$1
+    shift
+    local times=() rsss=()
+    for _ in $(seq 1 "$RUNS"); do
+        read -r t r < <(measure "$@")
+        times+=("$t")
+        rsss+=("$r")
+    done
+    local median=$(((RUNS + 1) / 2))
+    local t r
+    t=$(printf '%s\n' "${times[@]}" | sort -n | sed -n "${median}p")
+    r=$(printf '%s\n' "${rsss[@]}" | sort -n | sed -n "${median}p")
+    echo "| $mode | $t | $r |" >> "$REPORT"
+    echo "$mode: started in ${t}s, RSS ${r} MB"
+}
+
+{
+    echo "# booking-service startup report"
+    echo
+    echo "$(java -version 2>&1 | head -1), median of $RUNS runs, in-memory H2."
+    echo
+    echo "| mode | startup (s) | RSS after startup (MB) |"
+    echo "|------|-------------|------------------------|"
+} > "$REPORT"
+
+report jvm java -jar "$JAR"
+report jvm-cds-aot java -XX:SharedArchiveFile="$WORK/app.jsa" -Dspring.aot.enabled=true -jar "$EXTRACTED"
+if [[ -x "$TARGET/booking-service" ]]; then
+    report native "$TARGET/booking-service"
+fi
+
+echo "Report written to $REPORT"
@@ -0,0 +1,113 @@
+package springboot.bookingservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.mapper.IsoLocalDateTimeSerializer;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.service.BookingEnricher;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one list response: enriching and mapping the loaded entities, then writing the JSON
+ * body. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} (bytes per request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingListBenchmark {
+
+    @Param({"100"})
+    private int bookings;
+
+    private final BookingEnricher enricher = new BookingEnricher();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper leanDateMapper = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()));
+
+    private List<Booking> entities;
+    private GetBookingResponse response;
+    private LocalDateTime[] dates;
+
+    @Setup
+    public void setUp() {
+        List<UUID> vehicles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            vehicles.add(UUID.randomUUID());
+        }
+        entities = new ArrayList<>();
+        dates = new LocalDateTime[bookings];
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 8, 0);
+        for (int i = 0; i < bookings; i++) {
+            dates[i] = start.plusMinutes(17L * i).plusNanos(120_000_000L * (i % 3));
+            entities.add(Booking.builder()
+                    .id(UUID.randomUUID())
+                    .userId(UUID.randomUUID())
+                    .bookingDate(dates[i])
+                    .status(BookingStatus.PENDING)
+                    .vehicleId(vehicles.get(i % vehicles.size()))
+                    .serviceIds(new ArrayList<>(List.of(UUID.randomUUID(), UUID.randomUUID())))
+                    .additionalNotes("Please call on arrival")
+                    .paymentMethod("CARD")
+                    .phoneNumber("+359888123456")
+                    .totalPrice(new BigDecimal("149.90"))
+                    .build());
+        }
+        response = mapList();
+    }
+
+    @Benchmark
+    public GetBookingResponse mapList() {
+        List<BookingResponse> dtos = new ArrayList<>(entities.size());
+        for (Booking booking : entities) {
+            dtos.add(enricher.enrichAndMap(booking));
+        }
+        return GetBookingResponse.builder().bookings(dtos).build();
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    @Benchmark
+    public void mapAndSerializeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mapList());
+    }
+
+    @Benchmark
+    public void serializeDatesJacksonDefault() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), dates);
+    }
+
+    @Benchmark
+    public void serializeDatesLean() throws IOException {
+        leanDateMapper.writeValue(OutputStream.nullOutputStream(), dates);
+    }
+}
@@ -0,0 +1,140 @@
+package springboot.bookingservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Configuration;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import springboot.bookingservice.config.ValidationConfig;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.mapper.BookingMapper;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.model.BookingStatus;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of accepting a booking: binding the JSON body, validating it and mapping it
+ * to the entity. Each step has a baseline (the default validator, the hand-written builder copy)
+ * next to the path the service now takes. Run with {@code -prof gc} to compare allocation too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingRequestBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ValidatorFactory defaultFactory;
+    private ValidatorFactory predefinedFactory;
+    private Validator defaultValidator;
+    private Validator predefinedValidator;
+    private BookingRequest request;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        defaultFactory = Validation.buildDefaultValidatorFactory();
+        defaultValidator = defaultFactory.getValidator();
+        Configuration<?> configuration = Validation.byProvider(PredefinedScopeHibernateValidator.class).configure();
+        ValidationConfig.predefineScope(configuration);
+        predefinedFactory = configuration.buildValidatorFactory();
+        predefinedValidator = predefinedFactory.getValidator();
+
+        request = BookingRequest.builder()
+                .userId(UUID.randomUUID())
+                .vehicleId(UUID.randomUUID())
+                .bookingDate(LocalDateTime.of(2099, 3, 1, 8, 30))
+                .serviceIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .additionalNotes("Please call on arrival")
+                .paymentMethod("CARD")
+                .phoneNumber("+359888123456")
+                .totalPrice(new BigDecimal("149.90"))
+                .build();
+        body = objectMapper.writeValueAsBytes(request);
+    }
+
+    @TearDown
+    public void tearDown() {
+        defaultFactory.close();
+        predefinedFactory.close();
+    }
+
+    @Benchmark
+    public BookingRequest bindJson() throws IOException {
+        return objectMapper.readValue(body, BookingRequest.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookingRequest>> validateDefault() {
+        return defaultValidator.validate(request);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookingRequest>> validatePredefinedScope() {
+        return predefinedValidator.validate(request);
+    }
+
+    @Benchmark
+    public Booking mapBuilder() {
+        return mapBuilder(request);
+    }
+
+    @Benchmark
+    public Booking mapGenerated() {
+        return BookingMapper.INSTANCE.toBooking(request);
+    }
+
+    @Benchmark
+    public Booking acceptDefault() throws IOException {
+        BookingRequest bound = objectMapper.readValue(body, BookingRequest.class);
+        defaultValidator.validate(bound);
+        return mapBuilder(bound);
+    }
+
+    @Benchmark
+    public Booking acceptFastPath() throws IOException {
+        BookingRequest bound = objectMapper.readValue(body, BookingRequest.class);
+        predefinedValidator.validate(bound);
+        return BookingMapper.INSTANCE.toBooking(bound);
+    }
+
+    /**
+     * The copy {@code createBooking} made before the generated mapper.
+     */
+    private static Booking mapBuilder(BookingRequest request) {
+        return Booking.builder()
+                .userId(request.getUserId())
+                .bookingDate(request.getBookingDate())
+                .status(BookingStatus.PENDING)
+                .additionalNotes(request.getAdditionalNotes())
+                .totalPrice(request.getTotalPrice())
+                .vehicleId(request.getVehicleId())
+                .serviceIds(request.getServiceIds())
+                .paymentMethod(request.getPaymentMethod())
+                .phoneNumber(request.getPhoneNumber())
+                .build();
+    }
+}
@@ -2,8 +2,13 @@ package springboot.bookingservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import springboot.bookingservice.config.BookingRuntimeHints;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(BookingRuntimeHints.class)
 public class Application {
 
     public static void main(String[] args) {
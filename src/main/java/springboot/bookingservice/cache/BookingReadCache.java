@@ -0,0 +1,58 @@
+package springboot.bookingservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.event.TransactionalEventListener;
+import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.service.Expansion;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches each user's booking list, per requested expansion, in a {@link TieredCache}. Every
+ * committed booking change invalidates the user's lists on all instances. Partial responses
+ * are not cached.
+ * <p>
+ * A list loaded from a lagging replica may be cached until the next change to the user's
+ * bookings or the cache TTLs; users within the read-your-writes window read from the primary.
+ */
+public class BookingReadCache implements DisposableBean {
+
+    static final String BOOKINGS_BY_USER = "bookings-by-user";
+
+    private final TieredCache<GetBookingResponse> byUser;
+
+    public BookingReadCache(CacheProperties properties, SharedCacheTier sharedTier, InvalidationBus bus,
+                            MeterRegistry meterRegistry) {
+        this.byUser = new TieredCache<>(BOOKINGS_BY_USER, properties, sharedTier, bus,
+                response -> !Boolean.TRUE.equals(response.partial()), meterRegistry);
+    }
+
+    public GetBookingResponse bookingsByUser(UUID userId, Set<Expansion> expand, Supplier<GetBookingResponse> loader) {
+        return byUser.get(key(userId, expand), loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        for (Set<Expansion> expand : Expansion.COMBINATIONS) {
+            byUser.invalidate(key(event.userId(), expand));
+        }
+    }
+
+    static String key(UUID userId, Set<Expansion> expand) {
+        return userId + expand.stream()
+                .sorted()
+                .map(expansion -> ":" + expansion.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining());
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        byUser.destroy();
+    }
+}
@@ -0,0 +1,8 @@
+package springboot.bookingservice.cache;
+
+/**
+ * Broadcast when a key is invalidated: every instance drops its near entries for the key that
+ * are older than {@code version}.
+ */
+public record CacheInvalidation(String cache, String key, long version, String origin) {
+}
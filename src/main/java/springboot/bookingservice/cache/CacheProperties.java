@@ -0,0 +1,40 @@
+package springboot.bookingservice.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Settings for the two-tier booking read cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.cache")
+public class CacheProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Identifies this instance in invalidation messages.
+     */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Instances with the same cluster name share the embedded shared tier and invalidation bus;
+     * only instances in one JVM can, so this stands in for an external cache and message broker.
+     */
+    private String cluster = "booking-service";
+
+    /**
+     * Entries kept in each instance's near cache; the least recently used are evicted first.
+     */
+    private int nearMaxEntries = 10_000;
+
+    /**
+     * Upper bound on how long a near entry is served, in case an invalidation message is lost.
+     */
+    private Duration nearTtl = Duration.ofSeconds(30);
+
+    private Duration sharedTtl = Duration.ofMinutes(5);
+}
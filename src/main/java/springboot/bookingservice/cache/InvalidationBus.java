@@ -0,0 +1,16 @@
+package springboot.bookingservice.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidation messages to every instance, including the sender.
+ */
+public interface InvalidationBus {
+
+    void publish(CacheInvalidation message);
+
+    /**
+     * @return closing it stops the delivery
+     */
+    AutoCloseable subscribe(Consumer<CacheInvalidation> listener);
+}
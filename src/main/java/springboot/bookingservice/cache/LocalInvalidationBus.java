@@ -0,0 +1,45 @@
+package springboot.bookingservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-memory bus for instances running in one JVM. Messages are delivered synchronously on the
+ * publishing thread; a failing listener is logged and does not stop delivery to the others.
+ */
+@Slf4j
+public class LocalInvalidationBus implements InvalidationBus {
+
+    private static final Map<String, LocalInvalidationBus> CLUSTERS = new ConcurrentHashMap<>();
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The bus shared by every instance of the named cluster in this JVM.
+     */
+    public static LocalInvalidationBus forCluster(String cluster) {
+        return CLUSTERS.computeIfAbsent(cluster, name -> new LocalInvalidationBus());
+    }
+
+    @Override
+    public void publish(CacheInvalidation message) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation listener failed for {}", message, e);
+            }
+        }
+    }
+
+    @Override
+    public AutoCloseable subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+}
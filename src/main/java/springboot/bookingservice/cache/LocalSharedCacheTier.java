@@ -0,0 +1,123 @@
+package springboot.bookingservice.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory shared tier for instances running in one JVM, e.g. tests or a single-node setup.
+ * <p>
+ * Versions are kept after values expire, since they are what rejects stale writes, but only for
+ * the retention period: a key is forgotten once it has held no live value for that long. Every
+ * version is drawn from one counter, so a key tracked again after being forgotten never gets a
+ * version an older load could still hold.
+ */
+public class LocalSharedCacheTier implements SharedCacheTier {
+
+    static final Duration DEFAULT_RETENTION = Duration.ofMinutes(10);
+
+    private static final Map<String, LocalSharedCacheTier> CLUSTERS = new ConcurrentHashMap<>();
+
+    /**
+     * {@code expiresAt} is when the value expires, or when the version was last bumped or read
+     * for slots without a value.
+     */
+    private record Slot(long version, Object value, long expiresAt) {
+
+        boolean live(long now) {
+            return value != null && now - expiresAt < 0;
+        }
+    }
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final long retentionNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long lastSweep;
+
+    public LocalSharedCacheTier() {
+        this(DEFAULT_RETENTION);
+    }
+
+    /**
+     * @param retention how long a key without a live value is remembered; must exceed the near
+     *                  cache TTL and the longest load
+     */
+    public LocalSharedCacheTier(Duration retention) {
+        this(retention, System::nanoTime);
+    }
+
+    LocalSharedCacheTier(Duration retention, LongSupplier nanoClock) {
+        this.retentionNanos = retention.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastSweep = nanoClock.getAsLong();
+    }
+
+    /**
+     * The tier shared by every instance of the named cluster in this JVM. The retention of the
+     * first caller applies.
+     */
+    public static LocalSharedCacheTier forCluster(String cluster, Duration retention) {
+        return CLUSTERS.computeIfAbsent(cluster, name -> new LocalSharedCacheTier(retention));
+    }
+
+    @Override
+    public long version(String key) {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        return slots.compute(key, (k, slot) -> {
+            if (slot == null) {
+                return new Slot(versions.incrementAndGet(), null, now);
+            }
+            return slot.live(now) ? slot : new Slot(slot.version(), null, now);
+        }).version();
+    }
+
+    @Override
+    public Versioned<Object> get(String key) {
+        Slot slot = slots.get(key);
+        return slot != null && slot.live(nanoClock.getAsLong()) ? new Versioned<>(slot.version(), slot.value()) : null;
+    }
+
+    @Override
+    public boolean putIfCurrent(String key, Versioned<Object> entry, Duration ttl) {
+        long expiresAt = nanoClock.getAsLong() + ttl.toNanos();
+        boolean[] stored = new boolean[1];
+        slots.computeIfPresent(key, (k, slot) -> {
+            if (slot.version() != entry.version()) {
+                return slot;
+            }
+            stored[0] = true;
+            return new Slot(entry.version(), entry.value(), expiresAt);
+        });
+        return stored[0];
+    }
+
+    @Override
+    public long invalidate(String key) {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        Slot slot = slots.computeIfPresent(key, (k, current) -> new Slot(versions.incrementAndGet(), null, now));
+        return slot == null ? 0 : slot.version();
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    private void sweepIfDue(long now) {
+        if (now - lastSweep < retentionNanos || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lastSweep = now;
+            slots.values().removeIf(slot -> now - slot.expiresAt() >= retentionNanos);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
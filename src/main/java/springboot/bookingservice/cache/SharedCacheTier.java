@@ -0,0 +1,36 @@
+package springboot.bookingservice.cache;
+
+import java.time.Duration;
+
+/**
+ * The cache tier shared by all instances. Every tracked key has a version that only moves
+ * forward: invalidating a key bumps it, and a value is only stored at the version it was loaded
+ * at, so a load that raced with an invalidation cannot overwrite newer state. A key is tracked
+ * from the moment its version is read for a load; invalidating keys nobody loaded costs nothing.
+ */
+public interface SharedCacheTier {
+
+    /**
+     * Current version of the key, which starts tracking it if it was not yet.
+     */
+    long version(String key);
+
+    /**
+     * The live entry, or {@code null}.
+     */
+    Versioned<Object> get(String key);
+
+    /**
+     * Stores the entry unless the key has been invalidated since its version was read.
+     *
+     * @return whether the entry was stored
+     */
+    boolean putIfCurrent(String key, Versioned<Object> entry, Duration ttl);
+
+    /**
+     * Drops the value and bumps the key's version, if the key is tracked.
+     *
+     * @return the new version, or {@code 0} if the key is not tracked
+     */
+    long invalidate(String key);
+}
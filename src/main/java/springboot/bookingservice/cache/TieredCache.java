@@ -0,0 +1,177 @@
+package springboot.bookingservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A bounded near cache in front of a {@link SharedCacheTier}. Reads try the near cache, then the
+ * shared tier, then the loader. Invalidations bump the key's version in the shared tier and are
+ * broadcast on the {@link InvalidationBus} so every instance drops its near entry.
+ * <p>
+ * An invalidation leaves a tombstone at the new version in the near cache, so an entry read or
+ * loaded before it cannot be put back afterwards. A load is only cached if the key's version
+ * did not move while it ran.
+ * <p>
+ * Metrics, tagged with the cache: {@code booking.cache.gets} by result and
+ * {@code booking.cache.stale.writes}.
+ */
+public class TieredCache<V> implements DisposableBean {
+
+    private record NearEntry(long version, Object value, long expiresAt) {
+
+        boolean tombstone() {
+            return value == null;
+        }
+    }
+
+    private final String name;
+    private final String nodeId;
+    private final SharedCacheTier sharedTier;
+    private final InvalidationBus bus;
+    private final Predicate<? super V> cacheable;
+    private final long nearTtlNanos;
+    private final Duration sharedTtl;
+    private final Map<String, NearEntry> near;
+    private final AutoCloseable subscription;
+
+    private final Counter nearHits;
+    private final Counter sharedHits;
+    private final Counter misses;
+    private final Counter staleWrites;
+
+    /**
+     * @param cacheable which loaded values to cache; the others are returned but loaded again next time
+     */
+    public TieredCache(String name, CacheProperties properties, SharedCacheTier sharedTier, InvalidationBus bus,
+                       Predicate<? super V> cacheable, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.nodeId = properties.getNodeId();
+        this.sharedTier = sharedTier;
+        this.bus = bus;
+        this.cacheable = cacheable;
+        this.nearTtlNanos = properties.getNearTtl().toNanos();
+        this.sharedTtl = properties.getSharedTtl();
+        int maxEntries = properties.getNearMaxEntries();
+        this.near = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NearEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.nearHits = gets(meterRegistry, "near_hit");
+        this.sharedHits = gets(meterRegistry, "shared_hit");
+        this.misses = gets(meterRegistry, "miss");
+        this.staleWrites = Counter.builder("booking.cache.stale.writes").tag("cache", name)
+                .description("Loaded values not cached because their key was invalidated meanwhile")
+                .register(meterRegistry);
+        this.subscription = bus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Returns the cached value for the key, loading and caching it on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(String key, Supplier<V> loader) {
+        Object cached = nearGet(key);
+        if (cached != null) {
+            nearHits.increment();
+            return (V) cached;
+        }
+        Versioned<Object> shared = sharedTier.get(key);
+        if (shared != null) {
+            sharedHits.increment();
+            nearPut(key, shared);
+            return (V) shared.value();
+        }
+        misses.increment();
+        long version = sharedTier.version(key);
+        V value = loader.get();
+        if (value == null || !cacheable.test(value)) {
+            return value;
+        }
+        Versioned<Object> entry = new Versioned<>(version, value);
+        if (sharedTier.putIfCurrent(key, entry, sharedTtl)) {
+            nearPut(key, entry);
+        } else {
+            staleWrites.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Drops the key on every instance. A key the shared tier does not track was not loaded
+     * recently by any instance, so there is nothing to drop or broadcast.
+     */
+    public void invalidate(String key) {
+        long version = sharedTier.invalidate(key);
+        if (version == 0) {
+            return;
+        }
+        CacheInvalidation message = new CacheInvalidation(name, key, version, nodeId);
+        onInvalidation(message);
+        bus.publish(message);
+    }
+
+    void onInvalidation(CacheInvalidation message) {
+        if (!name.equals(message.cache())) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + nearTtlNanos;
+        synchronized (near) {
+            NearEntry current = near.get(message.key());
+            if (current == null || current.version() < message.version()) {
+                near.put(message.key(), new NearEntry(message.version(), null, expiresAt));
+            }
+        }
+    }
+
+    private Object nearGet(String key) {
+        synchronized (near) {
+            NearEntry entry = near.get(key);
+            if (entry == null || entry.tombstone()) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAt() >= 0) {
+                near.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private void nearPut(String key, Versioned<Object> entry) {
+        long expiresAt = System.nanoTime() + nearTtlNanos;
+        synchronized (near) {
+            NearEntry current = near.get(key);
+            if (current == null || current.version() <= entry.version()) {
+                near.put(key, new NearEntry(entry.version(), entry.value(), expiresAt));
+            }
+        }
+    }
+
+    int nearSize() {
+        synchronized (near) {
+            return near.size();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        subscription.close();
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("booking.cache.gets")
+                .tag("cache", name)
+                .tag("result", result)
+                .description("Cache reads by the tier that answered them")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,7 @@
+package springboot.bookingservice.cache;
+
+/**
+ * A cached value and the version of its key it was loaded at.
+ */
+public record Versioned<V>(long version, V value) {
+}
@@ -0,0 +1,195 @@
+package springboot.bookingservice.calendar;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.repository.BookingRepository;
+import springboot.bookingservice.repository.BookingSlot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Calendar slots per day. Missing days of a requested range are loaded with one range query;
+ * cached days are then kept current from {@link BookingChangedEvent}s instead of being reloaded.
+ * Those events are only published for this instance's writes, so each day is also reloaded once
+ * it is older than {@link CalendarProperties#getDayTtl()}, bounding how long changes made
+ * elsewhere stay invisible.
+ */
+@Component
+@EnableConfigurationProperties(CalendarProperties.class)
+public class BookingCalendarCache {
+
+    /**
+     * Statuses that occupy a workshop slot; cancelled and archived bookings drop off the calendar.
+     */
+    static final Set<BookingStatus> SCHEDULED =
+            EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+
+    static final Comparator<BookingSlot> SLOT_ORDER = Comparator
+            .comparing(BookingSlot::bookingDate)
+            .thenComparing(BookingSlot::id);
+
+    private final BookingRepository bookingRepository;
+    private final Map<LocalDate, CachedDay> days;
+    private final long dayTtlNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong changes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public BookingCalendarCache(BookingRepository bookingRepository, CalendarProperties properties,
+                                MeterRegistry meterRegistry) {
+        this(bookingRepository, properties, meterRegistry, System::nanoTime);
+    }
+
+    BookingCalendarCache(BookingRepository bookingRepository, CalendarProperties properties,
+                         MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.bookingRepository = bookingRepository;
+        this.dayTtlNanos = properties.getDayTtl().toNanos();
+        this.nanoClock = nanoClock;
+        int maxDays = properties.getMaxCachedDays();
+        this.days = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, CachedDay> eldest) {
+                return size() > maxDays;
+            }
+        };
+        this.hits = Counter.builder("booking.calendar.cache").tag("result", "hit")
+                .description("Calendar days served from the cache").register(meterRegistry);
+        this.misses = Counter.builder("booking.calendar.cache").tag("result", "miss")
+                .description("Calendar days loaded from the database").register(meterRegistry);
+    }
+
+    /**
+     * Returns the slots of every day in {@code [from, to)}, loading the days not cached yet or
+     * cached for longer than the day TTL.
+     */
+    public Map<LocalDate, List<BookingSlot>> slots(LocalDate from, LocalDate to) {
+        Map<LocalDate, List<BookingSlot>> result = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        long now = nanoClock.getAsLong();
+        synchronized (days) {
+            for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                CachedDay cached = days.get(day);
+                if (cached != null && now - cached.loadedAt() < dayTtlNanos) {
+                    result.put(day, cached.slots());
+                } else {
+                    firstMissing = firstMissing == null ? day : firstMissing;
+                    lastMissing = day;
+                }
+            }
+        }
+        hits.increment(result.size());
+        if (firstMissing != null) {
+            result.putAll(load(firstMissing, lastMissing.plusDays(1), result.keySet()));
+        }
+        return result;
+    }
+
+    private Map<LocalDate, List<BookingSlot>> load(LocalDate from, LocalDate to, Set<LocalDate> cached) {
+        long version = changes.get();
+        long loadedAt = nanoClock.getAsLong();
+        Map<LocalDate, List<BookingSlot>> loaded = new HashMap<>();
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            if (!cached.contains(day)) {
+                loaded.put(day, new ArrayList<>());
+            }
+        }
+        for (BookingSlot slot : bookingRepository.findSlots(from.atStartOfDay(), to.atStartOfDay(), SCHEDULED)) {
+            List<BookingSlot> slots = loaded.get(slot.bookingDate().toLocalDate());
+            if (slots != null) {
+                slots.add(slot);
+            }
+        }
+        loaded.replaceAll((day, slots) -> {
+            slots.sort(SLOT_ORDER);
+            return List.copyOf(slots);
+        });
+        misses.increment(loaded.size());
+        synchronized (days) {
+            // a change committed while the query ran may be missing from its result
+            if (changes.get() == version) {
+                loaded.forEach((day, slots) -> days.put(day, new CachedDay(slots, loadedAt)));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Moves a changed booking in or out of its cached day and drops purged ones. Days not in the
+     * cache are left to be loaded on demand; cached days keep their load time, as the update
+     * does not cover changes made elsewhere.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        changes.incrementAndGet();
+        if (event.isDeletion()) {
+            remove(event.bookingId());
+            return;
+        }
+        bookingRepository.findSlotById(event.bookingId()).ifPresent(this::apply);
+    }
+
+    void remove(UUID bookingId) {
+        synchronized (days) {
+            days.replaceAll((day, cached) -> {
+                List<BookingSlot> slots = cached.slots();
+                return slots.stream().anyMatch(slot -> slot.id().equals(bookingId))
+                        ? cached.withSlots(slots.stream().filter(slot -> !slot.id().equals(bookingId)).toList())
+                        : cached;
+            });
+        }
+    }
+
+    void apply(BookingSlot slot) {
+        LocalDate day = slot.bookingDate().toLocalDate();
+        synchronized (days) {
+            CachedDay current = days.get(day);
+            if (current == null) {
+                return;
+            }
+            List<BookingSlot> updated = new ArrayList<>(current.slots().size() + 1);
+            for (BookingSlot existing : current.slots()) {
+                if (!existing.id().equals(slot.id())) {
+                    updated.add(existing);
+                }
+            }
+            if (SCHEDULED.contains(slot.status())) {
+                updated.add(slot);
+                updated.sort(SLOT_ORDER);
+            }
+            days.put(day, current.withSlots(List.copyOf(updated)));
+        }
+    }
+
+    int cachedDays() {
+        synchronized (days) {
+            return days.size();
+        }
+    }
+
+    private record CachedDay(List<BookingSlot> slots, long loadedAt) {
+
+        CachedDay withSlots(List<BookingSlot> updated) {
+            return new CachedDay(updated, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package springboot.bookingservice.calendar;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import springboot.bookingservice.dto.CalendarResponse;
+import springboot.bookingservice.repository.BookingSlot;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Groups scheduled bookings of a date range into day or week buckets for the workshop calendar.
+ */
+@Service
+public class BookingCalendarService {
+
+    private final BookingCalendarCache calendarCache;
+    private final CalendarProperties properties;
+
+    @Autowired
+    public BookingCalendarService(BookingCalendarCache calendarCache, CalendarProperties properties) {
+        this.calendarCache = calendarCache;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns bookings starting in {@code [from, to)}, optionally only those of one vehicle.
+     */
+    public ResponseEntity<CalendarResponse> getCalendar(LocalDate from, LocalDate to, UUID vehicleId,
+                                                        CalendarBucket bucket) {
+        if (!from.isBefore(to) || ChronoUnit.DAYS.between(from, to) > properties.getMaxRangeDays()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Map<LocalDate, List<BookingSlot>> slotsByDay = calendarCache.slots(from, to);
+        List<CalendarResponse.Bucket> buckets = new ArrayList<>();
+        for (LocalDate start = bucket.start(from); start.isBefore(to); start = bucket.next(start)) {
+            LocalDate bucketStart = start.isBefore(from) ? from : start;
+            LocalDate next = bucket.next(start);
+            LocalDate bucketEnd = next.isAfter(to) ? to : next;
+            List<BookingSlot> slots = new ArrayList<>();
+            for (LocalDate day = bucketStart; day.isBefore(bucketEnd); day = day.plusDays(1)) {
+                for (BookingSlot slot : slotsByDay.get(day)) {
+                    if (vehicleId == null || vehicleId.equals(slot.vehicleId())) {
+                        slots.add(slot);
+                    }
+                }
+            }
+            buckets.add(new CalendarResponse.Bucket(bucketStart, bucketEnd, slots.size(), slots));
+        }
+
+        return ResponseEntity.ok(CalendarResponse.builder()
+                .from(from)
+                .to(to)
+                .bucket(bucket.name())
+                .buckets(buckets)
+                .build());
+    }
+}
@@ -0,0 +1,21 @@
+package springboot.bookingservice.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Granularity of calendar buckets. Weeks start on Monday.
+ */
+public enum CalendarBucket {
+    DAY,
+    WEEK;
+
+    LocalDate start(LocalDate date) {
+        return this == DAY ? date : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    LocalDate next(LocalDate start) {
+        return this == DAY ? start.plusDays(1) : start.plusWeeks(1);
+    }
+}
@@ -0,0 +1,30 @@
+package springboot.bookingservice.calendar;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the workshop calendar view.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.calendar")
+public class CalendarProperties {
+
+    /**
+     * Longest range, in days, a single calendar request may cover.
+     */
+    private int maxRangeDays = 92;
+
+    /**
+     * Number of days kept in the calendar cache; the least recently viewed are evicted first.
+     */
+    private int maxCachedDays = 400;
+
+    /**
+     * How long a cached day is served before it is reloaded. Cached days only follow this
+     * instance's own writes, so this bounds how stale they get when other instances write.
+     */
+    private Duration dayTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,25 @@
+package springboot.bookingservice.changefeed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the booking change feed.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.changes")
+public class ChangeFeedProperties {
+
+    private int defaultPageSize = 500;
+
+    private int maxPageSize = 1000;
+
+    /**
+     * Changes younger than this are held back. A transaction stamps {@code updatedAt} before it
+     * commits, so a row may become visible after a newer one was already delivered; the lag
+     * must exceed the longest write transaction.
+     */
+    private Duration settleLag = Duration.ofSeconds(2);
+}
@@ -0,0 +1,130 @@
+package springboot.bookingservice.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import springboot.bookingservice.cache.BookingReadCache;
+import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.service.BookingService;
+import springboot.bookingservice.service.Expansion;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Sits in front of the {@link BookingService} query methods so identical concurrent requests
+ * share one database query and enrichment pass. With the {@link BookingReadCache} enabled, user
+ * queries are served from it and only misses reach the service.
+ */
+@Component
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class BookingQueryCoalescer {
+
+    /**
+     * Requests only share a result when they asked for the same expansions.
+     */
+    record UserKey(UUID userId, Set<Expansion> expand) {
+    }
+
+    record StatusKey(String status, Set<Expansion> expand) {
+    }
+
+    private final BookingService bookingService;
+    private final BookingReadCache readCache;
+    private final boolean enabled;
+    private final SingleFlight<UserKey, ResponseEntity<GetBookingResponse>> byUser;
+    private final SingleFlight<StatusKey, ResponseEntity<GetBookingResponse>> byStatus;
+    private final Consumer<SingleFlight.Outcome> userOutcomes;
+    private final Consumer<SingleFlight.Outcome> statusOutcomes;
+
+    public BookingQueryCoalescer(BookingService bookingService, CoalescingProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this(bookingService, properties, meterRegistry, (BookingReadCache) null);
+    }
+
+    @Autowired
+    public BookingQueryCoalescer(BookingService bookingService, CoalescingProperties properties,
+                                 MeterRegistry meterRegistry, ObjectProvider<BookingReadCache> readCache) {
+        this(bookingService, properties, meterRegistry, readCache.getIfAvailable());
+    }
+
+    BookingQueryCoalescer(BookingService bookingService, CoalescingProperties properties,
+                          MeterRegistry meterRegistry, BookingReadCache readCache) {
+        this.bookingService = bookingService;
+        this.readCache = readCache;
+        this.enabled = properties.isEnabled();
+        long window = properties.getMicroCacheWindow().toNanos();
+        this.byUser = new SingleFlight<>(window);
+        this.byStatus = new SingleFlight<>(window);
+        this.userOutcomes = outcomeCounter(meterRegistry, "user");
+        this.statusOutcomes = outcomeCounter(meterRegistry, "status");
+    }
+
+    public ResponseEntity<GetBookingResponse> getBookingsByUser(UUID userId, Set<Expansion> expand) {
+        if (!enabled) {
+            return loadByUser(userId, expand);
+        }
+        return byUser.execute(new UserKey(userId, expand), () -> loadByUser(userId, expand), userOutcomes);
+    }
+
+    private ResponseEntity<GetBookingResponse> loadByUser(UUID userId, Set<Expansion> expand) {
+        if (readCache == null) {
+            return bookingService.getBookingsByUser(userId, expand);
+        }
+        return ResponseEntity.ok(readCache.bookingsByUser(userId, expand,
+                () -> bookingService.getBookingsByUser(userId, expand).getBody()));
+    }
+
+    public ResponseEntity<GetBookingResponse> getBookingsByStatus(String status, Set<Expansion> expand) {
+        if (!enabled) {
+            return bookingService.getBookingsByStatus(status, expand);
+        }
+        return byStatus.execute(new StatusKey(status.toUpperCase(Locale.ROOT), expand),
+                () -> bookingService.getBookingsByStatus(status, expand), statusOutcomes);
+    }
+
+    /**
+     * Drops shared results once a change is committed, so later requests see it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        for (Set<Expansion> expand : Expansion.COMBINATIONS) {
+            byUser.invalidate(new UserKey(event.userId(), expand));
+            if (event.previousStatus() != null) {
+                byStatus.invalidate(new StatusKey(event.previousStatus().name(), expand));
+            }
+            if (event.status() != null) {
+                byStatus.invalidate(new StatusKey(event.status().name(), expand));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.coalescing.eviction-interval:30s}")
+    public void evictExpired() {
+        byUser.evictExpired();
+        byStatus.evictExpired();
+    }
+
+    private static Consumer<SingleFlight.Outcome> outcomeCounter(MeterRegistry meterRegistry, String query) {
+        Map<SingleFlight.Outcome, Counter> counters = new EnumMap<>(SingleFlight.Outcome.class);
+        for (SingleFlight.Outcome outcome : SingleFlight.Outcome.values()) {
+            counters.put(outcome, Counter.builder("booking.query.coalescing")
+                    .tag("query", query)
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .description("Booking queries by whether they ran, joined an in-flight query or hit the micro-cache")
+                    .register(meterRegistry));
+        }
+        return outcome -> counters.get(outcome).increment();
+    }
+}
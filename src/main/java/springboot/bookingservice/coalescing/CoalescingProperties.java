@@ -0,0 +1,22 @@
+package springboot.bookingservice.coalescing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for collapsing identical concurrent booking queries.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a finished query result is reused by identical requests; zero shares only
+     * in-flight queries.
+     */
+    private Duration microCacheWindow = Duration.ZERO;
+}
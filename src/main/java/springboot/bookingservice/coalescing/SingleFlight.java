@@ -0,0 +1,131 @@
+package springboot.bookingservice.coalescing;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution.
+ * <p>
+ * The first caller for a key runs the loader; callers arriving while it runs wait for and share
+ * its result or exception. With a positive micro-cache window the completed result is also
+ * handed to callers arriving shortly afterwards.
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * How a call was served.
+     */
+    public enum Outcome {
+        LEADER, COALESCED, CACHED
+    }
+
+    private final long windowNanos;
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    public SingleFlight(long windowNanos) {
+        this.windowNanos = Math.max(0, windowNanos);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        return execute(key, loader, outcome -> {
+        });
+    }
+
+    public V execute(K key, Supplier<V> loader, Consumer<Outcome> outcomeListener) {
+        while (true) {
+            Flight<V> existing = flights.get(key);
+            if (existing != null) {
+                if (!existing.isExpired(System.nanoTime())) {
+                    outcomeListener.accept(existing.isDone() ? Outcome.CACHED : Outcome.COALESCED);
+                    return existing.join();
+                }
+                flights.remove(key, existing);
+                continue;
+            }
+            Flight<V> flight = new Flight<>(windowNanos);
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            outcomeListener.accept(Outcome.LEADER);
+            try {
+                V value = loader.get();
+                flight.complete(value);
+                if (windowNanos == 0) {
+                    flights.remove(key, flight);
+                }
+                return value;
+            } catch (RuntimeException | Error e) {
+                flight.fail(e);
+                flights.remove(key, flight);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Forgets the cached or in-flight result so the next call loads again.
+     */
+    public void invalidate(K key) {
+        flights.remove(key);
+    }
+
+    public void invalidateAll() {
+        flights.clear();
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        flights.values().removeIf(flight -> flight.isExpired(now));
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final long windowNanos;
+        private volatile long completedAt;
+
+        private Flight(long windowNanos) {
+            this.windowNanos = windowNanos;
+        }
+
+        private void complete(V value) {
+            completedAt = System.nanoTime();
+            result.complete(value);
+        }
+
+        private void fail(Throwable error) {
+            completedAt = System.nanoTime();
+            result.completeExceptionally(error);
+        }
+
+        private boolean isDone() {
+            return result.isDone();
+        }
+
+        private boolean isExpired(long now) {
+            return result.isDone() && (result.isCompletedExceptionally() || now - completedAt >= windowNanos);
+        }
+
+        private V join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package springboot.bookingservice.config;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * Validates the {@link ValidationConfig#VALIDATED_TYPES} with a {@link PredefinedScopeHibernateValidator}.
+ * It only {@link #supports} those types, so a binder it is set on for any other target fails
+ * instead of skipping the checks.
+ */
+public class BookingRequestValidator implements SmartValidator, DisposableBean {
+
+    private final ValidatorFactory factory;
+    private final SpringValidatorAdapter delegate;
+
+    public BookingRequestValidator(MessageInterpolator messageInterpolator) {
+        PredefinedScopeHibernateValidatorConfiguration configuration =
+                Validation.byProvider(PredefinedScopeHibernateValidator.class).configure();
+        ValidationConfig.predefineScope(configuration);
+        configuration.messageInterpolator(messageInterpolator);
+        this.factory = configuration.buildValidatorFactory();
+        this.delegate = new SpringValidatorAdapter(factory.getValidator());
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return ValidationConfig.VALIDATED_TYPES.contains(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        delegate.validate(target, errors);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        delegate.validate(target, errors, validationHints);
+    }
+
+    @Override
+    public void destroy() {
+        factory.close();
+    }
+}
@@ -0,0 +1,50 @@
+package springboot.bookingservice.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import springboot.bookingservice.dto.BookingAcceptedResponse;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.dto.SearchBookingResponse;
+import springboot.bookingservice.exception.ErrorResponse;
+import springboot.bookingservice.ingest.PendingBooking;
+import springboot.bookingservice.mapper.BookingMapperImpl;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.repository.BookingSlot;
+
+/**
+ * Reflection hints for a GraalVM native image. Spring infers hints for controller signatures,
+ * but not for types Jackson only meets in STOMP messages, the ingest log or the load-shedding
+ * filter, nor for the Lombok builders, the projections Hibernate instantiates from JPQL or the
+ * generated mapper that {@code Mappers.getMapper} loads by name.
+ */
+public class BookingRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] JSON_TYPES = {
+            BookingRequest.class, BookingResponse.class, GetBookingResponse.class, BookingAcceptedResponse.class,
+            SearchBookingResponse.class, ErrorResponse.class, PendingBooking.class
+    };
+
+    private static final Class<?>[] BUILDERS = {
+            Booking.BookingBuilder.class, BookingRequest.BookingRequestBuilder.class,
+            BookingResponse.BookingResponseBuilder.class, GetBookingResponse.GetBookingResponseBuilder.class,
+            SearchBookingResponse.SearchBookingResponseBuilder.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+
+        hints.reflection().registerType(Booking.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+        hints.reflection().registerType(BookingSlot.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(BookingMapperImpl.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        for (Class<?> builder : BUILDERS) {
+            hints.reflection().registerType(builder, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package springboot.bookingservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.bookingservice.cache.BookingReadCache;
+import springboot.bookingservice.cache.CacheProperties;
+import springboot.bookingservice.cache.InvalidationBus;
+import springboot.bookingservice.cache.LocalInvalidationBus;
+import springboot.bookingservice.cache.LocalSharedCacheTier;
+import springboot.bookingservice.cache.SharedCacheTier;
+
+import java.time.Duration;
+
+/**
+ * Enables the two-tier booking read cache when {@code booking.cache.enabled} is set. Without a
+ * {@link SharedCacheTier} or {@link InvalidationBus} bean, the embedded ones shared by the
+ * instances of the same cluster in this JVM are used.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+@ConditionalOnProperty(prefix = "booking.cache", name = "enabled", havingValue = "true")
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SharedCacheTier sharedCacheTier(CacheProperties properties) {
+        // versions must outlive any near entry and shared value loaded at them
+        Duration longestTtl = properties.getSharedTtl().compareTo(properties.getNearTtl()) > 0
+                ? properties.getSharedTtl() : properties.getNearTtl();
+        return LocalSharedCacheTier.forCluster(properties.getCluster(), longestTtl.multipliedBy(2));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InvalidationBus invalidationBus(CacheProperties properties) {
+        return LocalInvalidationBus.forCluster(properties.getCluster());
+    }
+
+    @Bean
+    public BookingReadCache bookingReadCache(CacheProperties properties, SharedCacheTier sharedTier,
+                                             InvalidationBus bus, MeterRegistry meterRegistry) {
+        return new BookingReadCache(properties, sharedTier, bus, meterRegistry);
+    }
+}
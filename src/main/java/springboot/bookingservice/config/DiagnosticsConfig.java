@@ -0,0 +1,57 @@
+package springboot.bookingservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.StatisticsSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.bookingservice.diagnostics.DiagnosticsDataSourcePostProcessor;
+import springboot.bookingservice.diagnostics.DiagnosticsProperties;
+import springboot.bookingservice.diagnostics.QueryDiagnosticsEndpoint;
+import springboot.bookingservice.diagnostics.QueryDiagnosticsFilter;
+import springboot.bookingservice.diagnostics.StatementDiagnosticsListener;
+
+/**
+ * Statement timing, Hibernate statistics and N+1 detection when {@code booking.diagnostics.enabled}
+ * is set. Without it no proxy, filter or statistics collection is installed.
+ */
+@Configuration
+@EnableConfigurationProperties(DiagnosticsProperties.class)
+@ConditionalOnProperty(prefix = "booking.diagnostics", name = "enabled", havingValue = "true")
+public class DiagnosticsConfig {
+
+    @Bean
+    public StatementDiagnosticsListener statementDiagnosticsListener(DiagnosticsProperties properties) {
+        return new StatementDiagnosticsListener(properties);
+    }
+
+    @Bean
+    public static BeanPostProcessor diagnosticsDataSourcePostProcessor(ObjectProvider<StatementDiagnosticsListener> listener) {
+        return new DiagnosticsDataSourcePostProcessor(listener);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer() {
+        return properties -> properties.put(StatisticsSettings.GENERATE_STATISTICS, true);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryDiagnosticsFilter> queryDiagnosticsFilterRegistration(
+            StatementDiagnosticsListener listener) {
+        FilterRegistrationBean<QueryDiagnosticsFilter> registration =
+                new FilterRegistrationBean<>(new QueryDiagnosticsFilter(listener));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    public QueryDiagnosticsEndpoint queryDiagnosticsEndpoint(StatementDiagnosticsListener listener,
+                                                             EntityManagerFactory entityManagerFactory) {
+        return new QueryDiagnosticsEndpoint(listener, entityManagerFactory);
+    }
+}
@@ -0,0 +1,59 @@
+package springboot.bookingservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.bookingservice.enrichment.EnrichmentProperties;
+import springboot.bookingservice.enrichment.FaultInjector;
+import springboot.bookingservice.enrichment.LocalServiceLookup;
+import springboot.bookingservice.enrichment.LocalVehicleLookup;
+import springboot.bookingservice.enrichment.ResilientUpstream;
+import springboot.bookingservice.enrichment.ServiceLookup;
+import springboot.bookingservice.enrichment.UpstreamGuard;
+import springboot.bookingservice.enrichment.VehicleLookup;
+
+/**
+ * Enrichment upstreams and their guards. The upstreams are local stubs for now; replacing the
+ * lookup beans with remote clients keeps the bulkheads and circuit breakers in front of them.
+ */
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.enrichment.fault-injection", name = "enabled", havingValue = "true")
+    public FaultInjector faultInjector() {
+        return new FaultInjector();
+    }
+
+    @Bean
+    public VehicleLookup vehicleLookup(ObjectProvider<FaultInjector> faultInjector) {
+        VehicleLookup lookup = new LocalVehicleLookup();
+        FaultInjector injector = faultInjector.getIfAvailable();
+        return injector == null ? lookup : injector.wrap(lookup);
+    }
+
+    @Bean
+    public ServiceLookup serviceLookup(ObjectProvider<FaultInjector> faultInjector) {
+        ServiceLookup lookup = new LocalServiceLookup();
+        FaultInjector injector = faultInjector.getIfAvailable();
+        return injector == null ? lookup : injector.wrap(lookup);
+    }
+
+    @Bean
+    public UpstreamGuard vehicleUpstream(EnrichmentProperties properties, MeterRegistry meterRegistry) {
+        return properties.isResilienceEnabled()
+                ? new ResilientUpstream("vehicle", properties.getVehicle(), meterRegistry)
+                : UpstreamGuard.NONE;
+    }
+
+    @Bean
+    public UpstreamGuard servicesUpstream(EnrichmentProperties properties, MeterRegistry meterRegistry) {
+        return properties.isResilienceEnabled()
+                ? new ResilientUpstream("services", properties.getServices(), meterRegistry)
+                : UpstreamGuard.NONE;
+    }
+}
@@ -0,0 +1,54 @@
+package springboot.bookingservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import springboot.bookingservice.datasource.ReadYourWritesTracker;
+import springboot.bookingservice.ingest.BookingBatchWriter;
+import springboot.bookingservice.ingest.BookingIngestService;
+import springboot.bookingservice.ingest.BookingWriteAheadLog;
+import springboot.bookingservice.ingest.IngestProperties;
+import springboot.bookingservice.repository.BookingRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Enables write-behind booking ingestion when {@code booking.ingest.async-enabled} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(IngestProperties.class)
+@ConditionalOnProperty(prefix = "booking.ingest", name = "async-enabled", havingValue = "true")
+public class IngestConfig {
+
+    @Bean
+    public BookingWriteAheadLog bookingWriteAheadLog(IngestProperties properties,
+                                                     @Value("${booking.sharding.enabled:false}") boolean sharding)
+            throws IOException {
+        if (sharding) {
+            throw new IllegalStateException("booking.ingest.async-enabled is not supported together with booking.sharding");
+        }
+        return new BookingWriteAheadLog(Path.of(properties.getWalPath()), properties.getWalCapacity().toBytes(),
+                properties.isSyncOnAppend());
+    }
+
+    @Bean
+    public BookingIngestService bookingIngestService(BookingWriteAheadLog wal, JdbcTemplate jdbcTemplate,
+                                                     BookingRepository bookingRepository,
+                                                     PlatformTransactionManager transactionManager,
+                                                     ApplicationEventPublisher eventPublisher,
+                                                     ReadYourWritesTracker readYourWritesTracker, ObjectMapper objectMapper,
+                                                     MeterRegistry meterRegistry, IngestProperties properties) {
+        return new BookingIngestService(wal, new BookingBatchWriter(jdbcTemplate), bookingRepository,
+                new TransactionTemplate(transactionManager), eventPublisher, readYourWritesTracker, objectMapper,
+                meterRegistry, properties.getBatchSize(), Path.of(properties.getDeadLetterPath()));
+    }
+}
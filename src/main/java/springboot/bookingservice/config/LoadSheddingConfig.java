@@ -0,0 +1,33 @@
+package springboot.bookingservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import springboot.bookingservice.ratelimit.LoadSheddingFilter;
+import springboot.bookingservice.ratelimit.RateLimitProperties;
+
+/**
+ * Registers the rate-limiting and load-shedding filter ahead of the rest of the chain.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class LoadSheddingConfig {
+
+    @Bean
+    public LoadSheddingFilter loadSheddingFilter(RateLimitProperties properties, ObjectMapper objectMapper,
+                                                 MeterRegistry meterRegistry) {
+        return new LoadSheddingFilter(properties, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilterRegistration(LoadSheddingFilter filter) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/bookings", "/api/v1/bookings/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,72 @@
+package springboot.bookingservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import springboot.bookingservice.datasource.ReplicaRoutingDataSource;
+import springboot.bookingservice.datasource.ReplicaRoutingProperties;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with a primary/replica router when
+ * {@code booking.datasource.routing.enabled} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.datasource.routing", name = "enabled", havingValue = "true")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+                                                             ReplicaRoutingProperties routingProperties) {
+        DataSource primary = primaryProperties.initializeDataSourceBuilder().build();
+        List<DataSource> replicas = routingProperties.getReplicas().stream()
+                .map(replica -> (DataSource) DataSourceBuilder.create()
+                        .url(replica.getUrl())
+                        .username(replica.getUsername() != null ? replica.getUsername() : primaryProperties.getUsername())
+                        .password(replica.getPassword() != null ? replica.getPassword() : primaryProperties.getPassword())
+                        .driverClassName(replica.getDriverClassName() != null
+                                ? replica.getDriverClassName() : primaryProperties.getDriverClassName())
+                        .build())
+                .toList();
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "booking.datasource.routing", name = "enabled", havingValue = "true")
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "booking.datasource.routing", name = "enabled", havingValue = "true")
+    public ReplicaHealthMonitor replicaHealthMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                     ReplicaRoutingProperties routingProperties) {
+        return new ReplicaHealthMonitor(replicaRoutingDataSource, routingProperties);
+    }
+
+    static class ReplicaHealthMonitor {
+
+        private final ReplicaRoutingDataSource dataSource;
+        private final ReplicaRoutingProperties properties;
+
+        ReplicaHealthMonitor(ReplicaRoutingDataSource dataSource, ReplicaRoutingProperties properties) {
+            this.dataSource = dataSource;
+            this.properties = properties;
+        }
+
+        @Scheduled(fixedDelayString = "${booking.datasource.routing.health-check-interval:5s}")
+        void checkReplicas() {
+            dataSource.checkHealth(properties.getHealthCheckTimeout());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package springboot.bookingservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import springboot.bookingservice.retention.RetentionProperties;
+import springboot.bookingservice.retention.RetentionPurgeJob;
+import springboot.bookingservice.sharding.ConsistentHashRing;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Enables the retention purge when {@code booking.retention.enabled} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(RetentionProperties.class)
+@ConditionalOnProperty(prefix = "booking.retention", name = "enabled", havingValue = "true")
+public class RetentionConfig {
+
+    @Bean
+    public RetentionPurgeJob retentionPurgeJob(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                               RetentionProperties properties,
+                                               ObjectProvider<ConsistentHashRing> shardRing,
+                                               ApplicationEventPublisher eventPublisher,
+                                               MeterRegistry meterRegistry) {
+        ConsistentHashRing ring = shardRing.getIfAvailable();
+        return new RetentionPurgeJob(dataSource, transactionManager, properties,
+                ring == null ? List.of() : ring.shards(), eventPublisher, meterRegistry);
+    }
+}
@@ -0,0 +1,99 @@
+package springboot.bookingservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import springboot.bookingservice.sharding.ConsistentHashRing;
+import springboot.bookingservice.sharding.ReshardingRunner;
+import springboot.bookingservice.sharding.ReshardingTool;
+import springboot.bookingservice.sharding.ShardQueryExecutor;
+import springboot.bookingservice.sharding.ShardRoutingDataSource;
+import springboot.bookingservice.sharding.ShardSchemaInitializer;
+import springboot.bookingservice.sharding.ShardedRepositoryPostProcessor;
+import springboot.bookingservice.sharding.ShardingProperties;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Spreads bookings over several databases by user ID when {@code booking.sharding.enabled} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(prefix = "booking.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties sharding, DataSourceProperties defaults,
+                                                         @Value("${booking.datasource.routing.enabled:false}") boolean replicaRouting) {
+        if (replicaRouting) {
+            throw new IllegalStateException("booking.sharding and booking.datasource.routing cannot be enabled together");
+        }
+        if (sharding.getShards().isEmpty()) {
+            throw new IllegalStateException("booking.sharding.shards must list at least one shard");
+        }
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : sharding.getShards()) {
+            shards.put(shard.getName(), DataSourceBuilder.create()
+                    .url(shard.getUrl())
+                    .username(shard.getUsername() != null ? shard.getUsername() : defaults.getUsername())
+                    .password(shard.getPassword() != null ? shard.getPassword() : defaults.getPassword())
+                    .driverClassName(shard.getDriverClassName() != null
+                            ? shard.getDriverClassName() : defaults.getDriverClassName())
+                    .build());
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource shardedDataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public ConsistentHashRing shardRing(ShardingProperties sharding) {
+        return new ConsistentHashRing(sharding.activeShardNames(), sharding.getVirtualNodes());
+    }
+
+    @Bean
+    public ShardQueryExecutor shardQueryExecutor(ShardingProperties sharding) {
+        return new ShardQueryExecutor(sharding.getShards().size());
+    }
+
+    @Bean
+    public static BeanPostProcessor shardedRepositoryPostProcessor(ObjectProvider<ConsistentHashRing> ring,
+                                                                   ObjectProvider<ShardQueryExecutor> executor,
+                                                                   ObjectProvider<PlatformTransactionManager> transactionManager) {
+        return new ShardedRepositoryPostProcessor(ring, executor, transactionManager);
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                         ShardRoutingDataSource shardRoutingDataSource,
+                                                         ShardingProperties sharding) {
+        return new ShardSchemaInitializer(entityManagerFactory, shardRoutingDataSource, sharding);
+    }
+
+    @Bean
+    public ReshardingTool reshardingTool(ShardRoutingDataSource shardRoutingDataSource, ConsistentHashRing shardRing,
+                                         ShardingProperties sharding) {
+        return new ReshardingTool(shardRoutingDataSource, shardRing, sharding);
+    }
+
+    @Bean
+    public ReshardingRunner reshardingRunner(ReshardingTool reshardingTool, ShardingProperties sharding) {
+        return new ReshardingRunner(reshardingTool, sharding);
+    }
+}
@@ -0,0 +1,21 @@
+package springboot.bookingservice.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.bookingservice.tracing.RepositoryObservationPostProcessor;
+
+/**
+ * Tracing beyond what Spring instruments itself (HTTP server requests, {@code @Observed}
+ * methods, scheduled tasks): spans around each repository call.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+        return new RepositoryObservationPostProcessor(registry);
+    }
+}
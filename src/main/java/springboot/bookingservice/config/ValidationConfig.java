@@ -0,0 +1,43 @@
+package springboot.bookingservice.config;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
+import org.springframework.boot.validation.MessageInterpolatorFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import springboot.bookingservice.dto.BookingRequest;
+
+import java.util.Set;
+
+/**
+ * Bean validation with a predefined scope for the booking create path: the metadata of
+ * {@link #VALIDATED_TYPES} is built once at startup instead of being discovered by reflection on
+ * the first request, and only the built-in constraints they use are registered.
+ * <p>
+ * The {@link BookingRequestValidator} is set on the create endpoint's binder only. Spring Boot's
+ * {@code defaultValidator} is left in place for every other {@code @Valid} type and for method
+ * validation.
+ */
+@org.springframework.context.annotation.Configuration(proxyBeanMethods = false)
+public class ValidationConfig {
+
+    static final Set<Class<?>> VALIDATED_TYPES = Set.of(BookingRequest.class);
+
+    static final Set<String> BUILTIN_CONSTRAINTS = Set.of(NotNull.class.getName(), Future.class.getName());
+
+    @Bean
+    public BookingRequestValidator bookingRequestValidator(ApplicationContext applicationContext) {
+        return new BookingRequestValidator(new MessageInterpolatorFactory(applicationContext).getObject());
+    }
+
+    /**
+     * Restricts a {@link org.hibernate.validator.PredefinedScopeHibernateValidator} configuration to the booking payloads.
+     */
+    public static void predefineScope(Configuration<?> configuration) {
+        ((PredefinedScopeHibernateValidatorConfiguration) configuration)
+                .initializeBeanMetaData(VALIDATED_TYPES)
+                .builtinConstraints(BUILTIN_CONSTRAINTS);
+    }
+}
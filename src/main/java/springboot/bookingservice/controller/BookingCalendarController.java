@@ -0,0 +1,49 @@
+package springboot.bookingservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springboot.bookingservice.calendar.BookingCalendarService;
+import springboot.bookingservice.calendar.CalendarBucket;
+import springboot.bookingservice.dto.CalendarResponse;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Workshop calendar, e.g. {@code GET api/v1/bookings/calendar?from=2030-01-06&to=2030-01-20&bucket=week}.
+ * {@code to} is exclusive.
+ */
+@RestController
+@RequestMapping("api/v1/bookings/calendar")
+public class BookingCalendarController {
+
+  private final BookingCalendarService calendarService;
+
+  @Autowired
+  public BookingCalendarController(BookingCalendarService calendarService) {
+    this.calendarService = calendarService;
+  }
+
+  @GetMapping
+  public ResponseEntity<CalendarResponse> getCalendar(
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(value = "vehicleId", required = false) UUID vehicleId,
+      @RequestParam(value = "bucket", defaultValue = "day") String bucket) {
+
+    CalendarBucket calendarBucket;
+    try {
+      calendarBucket = CalendarBucket.valueOf(bucket.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    return calendarService.getCalendar(from, to, vehicleId, calendarBucket);
+  }
+}
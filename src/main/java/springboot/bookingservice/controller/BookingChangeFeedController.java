@@ -0,0 +1,33 @@
+package springboot.bookingservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springboot.bookingservice.changefeed.BookingChangeFeedService;
+import springboot.bookingservice.dto.ChangeFeedResponse;
+
+/**
+ * Change feed for downstream consumers, e.g. {@code GET api/v1/bookings/changes?since=<nextToken>}.
+ * Omit {@code since} to start from the beginning.
+ */
+@RestController
+@RequestMapping("api/v1/bookings/changes")
+public class BookingChangeFeedController {
+
+  private final BookingChangeFeedService changeFeedService;
+
+  @Autowired
+  public BookingChangeFeedController(BookingChangeFeedService changeFeedService) {
+    this.changeFeedService = changeFeedService;
+  }
+
+  @GetMapping
+  public ResponseEntity<ChangeFeedResponse> getChanges(
+      @RequestParam(value = "since", required = false) String since,
+      @RequestParam(value = "size", required = false) Integer size) {
+    return changeFeedService.getChanges(since, size);
+  }
+}
@@ -1,52 +1,109 @@
 package springboot.bookingservice.controller;
 
 import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import springboot.bookingservice.coalescing.BookingQueryCoalescer;
+import springboot.bookingservice.config.BookingRequestValidator;
+import springboot.bookingservice.dto.BookingAcceptedResponse;
 import springboot.bookingservice.dto.BookingRequest;
 import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.ingest.BookingIngestService;
+import springboot.bookingservice.ingest.WalFullException;
 import springboot.bookingservice.service.BookingService;
+import springboot.bookingservice.service.Expansion;
 
+import java.util.Set;
 import java.util.UUID;
 
+@Slf4j
 @RestController
 @RequestMapping("api/v1/bookings")
 public class BookingController {
 
   private final BookingService bookingService;
+  private final BookingQueryCoalescer queryCoalescer;
   private final SimpMessagingTemplate messagingTemplate;
+  private final BookingIngestService ingestService;
+  private final BookingRequestValidator bookingRequestValidator;
 
   @Autowired
-  public BookingController(BookingService bookingService, SimpMessagingTemplate messagingTemplate) {
+  public BookingController(BookingService bookingService, BookingQueryCoalescer queryCoalescer,
+                           SimpMessagingTemplate messagingTemplate, ObjectProvider<BookingIngestService> ingestService,
+                           BookingRequestValidator bookingRequestValidator) {
     this.bookingService = bookingService;
+    this.queryCoalescer = queryCoalescer;
     this.messagingTemplate = messagingTemplate;
+    this.ingestService = ingestService.getIfAvailable();
+    this.bookingRequestValidator = bookingRequestValidator;
   }
 
+  /**
+   * Validates the create request, which also feeds asynchronous ingestion, with the
+   * predefined-scope validator instead of the application's default one.
+   */
+  @InitBinder("bookingRequest")
+  void initBookingRequestBinder(WebDataBinder binder) {
+    binder.setValidator(bookingRequestValidator);
+  }
+
+  /**
+   * Creates a booking. With asynchronous ingestion enabled the request is only logged and
+   * acknowledged with 202 and the booking ID; it falls back to a synchronous write while the
+   * log is full.
+   */
   @PostMapping
-  public ResponseEntity<Void> createBooking(@Valid @RequestBody BookingRequest request) {
+  public ResponseEntity<BookingAcceptedResponse> createBooking(@Valid @RequestBody BookingRequest request) {
+
+    if (ingestService != null) {
+      try {
+        UUID id = ingestService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(new BookingAcceptedResponse(id, BookingIngestService.State.PENDING.name()));
+      } catch (WalFullException e) {
+        log.warn("Write-ahead log full, creating booking synchronously");
+      }
+    }
 
     bookingService.createBooking(request);
 
     return ResponseEntity.ok().build();
   }
 
+  /**
+   * Lists bookings by user or status. Vehicle and service names are only looked up when asked
+   * for with {@code expand=vehicle,services}.
+   */
   @GetMapping
   public ResponseEntity<GetBookingResponse> getBookings(
       @RequestParam(value = "userId", required = false) UUID userId,
-      @RequestParam(value = "status", required = false) String status) {
+      @RequestParam(value = "status", required = false) String status,
+      @RequestParam(value = "expand", required = false) String expand) {
+
+    Set<Expansion> expansions;
+    try {
+      expansions = Expansion.parse(expand);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
 
     if (userId != null) {
-      return bookingService.getBookingsByUser(userId);
+      return queryCoalescer.getBookingsByUser(userId, expansions);
     } else if (status != null) {
-      return bookingService.getBookingsByStatus(status);
+      return queryCoalescer.getBookingsByStatus(status, expansions);
     } else {
       return ResponseEntity.badRequest().build();
     }
@@ -0,0 +1,45 @@
+package springboot.bookingservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springboot.bookingservice.dto.BookingAcceptedResponse;
+import springboot.bookingservice.ingest.BookingIngestService;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Status of bookings accepted through asynchronous ingestion.
+ */
+@RestController
+@RequestMapping("api/v1/bookings/ingest")
+@ConditionalOnProperty(prefix = "booking.ingest", name = "async-enabled", havingValue = "true")
+public class BookingIngestController {
+
+  private final BookingIngestService ingestService;
+
+  @Autowired
+  public BookingIngestController(BookingIngestService ingestService) {
+    this.ingestService = ingestService;
+  }
+
+  @GetMapping("/{id}")
+  public ResponseEntity<BookingAcceptedResponse> getState(@PathVariable("id") UUID bookingId) {
+    BookingIngestService.State state = ingestService.state(bookingId);
+    if (state == BookingIngestService.State.UNKNOWN) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(new BookingAcceptedResponse(bookingId, state.name()));
+  }
+
+  @GetMapping("/pending")
+  public ResponseEntity<List<UUID>> getPending(@RequestParam(value = "limit", defaultValue = "1000") int limit) {
+    return ResponseEntity.ok(ingestService.pendingIds(Math.max(0, limit)));
+  }
+}
@@ -0,0 +1,38 @@
+package springboot.bookingservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springboot.bookingservice.dto.RevenueReportResponse;
+import springboot.bookingservice.reporting.BookingReportService;
+
+import java.time.LocalDate;
+
+/**
+ * Revenue report, e.g. {@code GET api/v1/bookings/reports/revenue?from=2030-01-01&to=2030-02-01}.
+ * {@code to} is exclusive.
+ */
+@RestController
+@RequestMapping("api/v1/bookings/reports")
+public class BookingReportController {
+
+  private final BookingReportService reportService;
+
+  @Autowired
+  public BookingReportController(BookingReportService reportService) {
+    this.reportService = reportService;
+  }
+
+  @GetMapping("revenue")
+  public ResponseEntity<RevenueReportResponse> getRevenue(
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(value = "parallelism", required = false) Integer parallelism) {
+
+    return reportService.revenue(from, to, parallelism);
+  }
+}
@@ -0,0 +1,61 @@
+package springboot.bookingservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springboot.bookingservice.dto.SearchBookingResponse;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.search.BookingSearchCriteria;
+import springboot.bookingservice.search.BookingSearchService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Multi-criteria booking search, e.g.
+ * {@code GET api/v1/bookings/search?phoneNumber=...&status=PENDING&status=CONFIRMED&notes=roof+rack}.
+ */
+@RestController
+@RequestMapping("api/v1/bookings/search")
+public class BookingSearchController {
+
+  private final BookingSearchService searchService;
+
+  @Autowired
+  public BookingSearchController(BookingSearchService searchService) {
+    this.searchService = searchService;
+  }
+
+  @GetMapping
+  public ResponseEntity<SearchBookingResponse> search(
+      @RequestParam(value = "phoneNumber", required = false) String phoneNumber,
+      @RequestParam(value = "vehicleId", required = false) UUID vehicleId,
+      @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @RequestParam(value = "status", required = false) List<String> status,
+      @RequestParam(value = "notes", required = false) String notes,
+      @RequestParam(value = "page", required = false) Integer page,
+      @RequestParam(value = "size", required = false) Integer size) {
+
+    List<BookingStatus> statuses = new ArrayList<>();
+    if (status != null) {
+      try {
+        status.forEach(s -> statuses.add(BookingStatus.valueOf(s.trim().toUpperCase(Locale.ROOT))));
+      } catch (IllegalArgumentException e) {
+        return ResponseEntity.badRequest().build();
+      }
+    }
+    if (from != null && to != null && !from.isBefore(to)) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    return searchService.search(new BookingSearchCriteria(phoneNumber, vehicleId, from, to, statuses, notes), page, size);
+  }
+}
@@ -0,0 +1,38 @@
+package springboot.bookingservice.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound routing hints consulted by {@link ReplicaRoutingDataSource}.
+ * <p>
+ * The hint only matters when the first statement of a transaction runs, because that is
+ * when the lazily acquired connection is bound to a target database.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    /**
+     * Runs the action with reads pinned to the primary, even inside read-only transactions.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+}
@@ -0,0 +1,61 @@
+package springboot.bookingservice.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers users who wrote recently so their reads can bypass possibly stale replicas.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final Map<UUID, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReadYourWritesTracker(ReplicaRoutingProperties properties) {
+        this(properties.isEnabled(), properties.getReadYourWritesWindow());
+    }
+
+    public ReadYourWritesTracker(boolean enabled, Duration window) {
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(UUID userId) {
+        if (!enabled || userId == null || windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        primaryUntil.put(userId, now + windowNanos);
+        if (primaryUntil.size() > CLEANUP_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until - now <= 0);
+        }
+    }
+
+    /**
+     * Whether reads for the user must still go to the primary.
+     */
+    public boolean requiresPrimary(UUID userId) {
+        if (!enabled || userId == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        primaryUntil.remove(userId, until);
+        return false;
+    }
+}
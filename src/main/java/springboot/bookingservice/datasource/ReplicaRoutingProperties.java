@@ -0,0 +1,49 @@
+package springboot.bookingservice.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for routing read-only transactions to replica databases.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Whether read-only work is routed to the configured replicas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replica connection settings; username, password and driver default to the primary's.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How long reads for a user stay on the primary after that user wrote a booking.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Interval between replica health checks.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Timeout passed to {@link java.sql.Connection#isValid(int)} during health checks.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
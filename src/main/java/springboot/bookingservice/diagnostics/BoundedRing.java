@@ -0,0 +1,43 @@
+package springboot.bookingservice.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring keeping the most recent entries; older ones are overwritten.
+ */
+class BoundedRing<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong cursor = new AtomicLong();
+
+    BoundedRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(T entry) {
+        slots.set((int) (cursor.getAndIncrement() % slots.length()), entry);
+    }
+
+    List<T> snapshot() {
+        List<T> entries = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            T entry = slots.get(i);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package springboot.bookingservice.diagnostics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's data source in a statement-timing proxy. The routing data sources
+ * behind the replica and sharding setups are left alone; the {@code @Primary} proxy in front of
+ * them is wrapped instead, so each statement is timed once.
+ */
+public class DiagnosticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<StatementDiagnosticsListener> listener;
+
+    public DiagnosticsDataSourcePostProcessor(ObjectProvider<StatementDiagnosticsListener> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                || bean instanceof AbstractDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(listener.getObject())
+                .build();
+    }
+}
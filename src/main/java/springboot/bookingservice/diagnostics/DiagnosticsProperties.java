@@ -0,0 +1,40 @@
+package springboot.bookingservice.diagnostics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for SQL statement diagnostics exposed through the {@code querydiagnostics} endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.diagnostics")
+public class DiagnosticsProperties {
+
+    /**
+     * Whether the data source is proxied and Hibernate statistics are collected. When off,
+     * nothing is installed.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Statements taking at least this long are kept in the slow-statement buffer.
+     */
+    private Duration slowThreshold = Duration.ofMillis(50);
+
+    /**
+     * Number of recent slow statements and N+1 detections retained.
+     */
+    private int bufferSize = 200;
+
+    /**
+     * Executions of the same statement within one request that count as an N+1 pattern.
+     */
+    private int nPlusOneThreshold = 5;
+
+    /**
+     * Upper bound of distinct statement shapes with aggregated timings.
+     */
+    private int maxTrackedStatements = 500;
+}
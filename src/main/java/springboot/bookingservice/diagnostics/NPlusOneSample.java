@@ -0,0 +1,9 @@
+package springboot.bookingservice.diagnostics;
+
+import java.time.Instant;
+
+/**
+ * A statement executed {@code executions} times while serving a single request.
+ */
+public record NPlusOneSample(String request, String sql, int executions, String caller, Instant at) {
+}
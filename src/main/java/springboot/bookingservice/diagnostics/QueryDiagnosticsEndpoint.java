@@ -0,0 +1,57 @@
+package springboot.bookingservice.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/querydiagnostics}: Hibernate statistics, the slowest recent statements, the
+ * statements with the most total time and recent N+1 detections. {@code DELETE} resets all of it.
+ */
+@Endpoint(id = "querydiagnostics")
+public class QueryDiagnosticsEndpoint {
+
+    private static final int HOTTEST_LIMIT = 20;
+
+    private final StatementDiagnosticsListener listener;
+    private final Statistics statistics;
+
+    public QueryDiagnosticsEndpoint(StatementDiagnosticsListener listener, EntityManagerFactory entityManagerFactory) {
+        this.listener = listener;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public QueryDiagnosticsReport report() {
+        return new QueryDiagnosticsReport(hibernateStatistics(), listener.slowest(),
+                listener.hottest(HOTTEST_LIMIT), listener.nPlusOnes());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        listener.reset();
+        statistics.clear();
+    }
+
+    private Map<String, Object> hibernateStatistics() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("sessionsOpened", statistics.getSessionOpenCount());
+        values.put("transactions", statistics.getTransactionCount());
+        values.put("statementsPrepared", statistics.getPrepareStatementCount());
+        values.put("queriesExecuted", statistics.getQueryExecutionCount());
+        values.put("queryMaxTimeMillis", statistics.getQueryExecutionMaxTime());
+        values.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        values.put("entitiesLoaded", statistics.getEntityLoadCount());
+        values.put("entitiesFetched", statistics.getEntityFetchCount());
+        values.put("collectionsLoaded", statistics.getCollectionLoadCount());
+        values.put("collectionsFetched", statistics.getCollectionFetchCount());
+        values.put("flushes", statistics.getFlushCount());
+        return values;
+    }
+}
@@ -0,0 +1,32 @@
+package springboot.bookingservice.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Scopes statement counting to one HTTP request so repeated statements can be reported as N+1.
+ */
+public class QueryDiagnosticsFilter extends OncePerRequestFilter {
+
+    private final StatementDiagnosticsListener listener;
+
+    public QueryDiagnosticsFilter(StatementDiagnosticsListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        listener.openRequest();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            listener.closeRequest(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package springboot.bookingservice.diagnostics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Body of the {@code querydiagnostics} endpoint.
+ */
+public record QueryDiagnosticsReport(Map<String, Object> hibernate, List<StatementSample> slowest,
+                                     List<StatementSummary> hottest, List<NPlusOneSample> nPlusOne) {
+}
@@ -0,0 +1,221 @@
+package springboot.bookingservice.diagnostics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Times every statement passing through the proxied data source. Keeps aggregated timings per
+ * statement shape, the slowest recent statements, and, inside a request opened with
+ * {@link #openRequest()}, per-statement execution counts used to spot N+1 patterns.
+ */
+public class StatementDiagnosticsListener implements QueryExecutionListener {
+
+    private static final String START = "diagnostics.start";
+    private static final String APP_PACKAGE = "springboot.bookingservice.";
+    private static final String OWN_PACKAGE = StatementDiagnosticsListener.class.getPackageName();
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final long slowThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final int maxTrackedStatements;
+    private final BoundedRing<StatementSample> slowStatements;
+    private final BoundedRing<NPlusOneSample> nPlusOnes;
+    private final Map<String, Stats> statsBySql = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestScope> requestScope = new ThreadLocal<>();
+
+    public StatementDiagnosticsListener(DiagnosticsProperties properties) {
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.nPlusOneThreshold = properties.getNPlusOneThreshold();
+        this.maxTrackedStatements = properties.getMaxTrackedStatements();
+        this.slowStatements = new BoundedRing<>(properties.getBufferSize());
+        this.nPlusOnes = new BoundedRing<>(properties.getBufferSize());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        // one entry per shape, so IN lists of varying length do not use up the tracked statements
+        String sql = normalize(queryInfoList.get(0).getQuery());
+
+        Stats stats = statsBySql.get(sql);
+        if (stats == null && statsBySql.size() < maxTrackedStatements) {
+            stats = statsBySql.computeIfAbsent(sql, key -> new Stats());
+        }
+        if (stats != null) {
+            stats.record(elapsed);
+        }
+
+        if (elapsed >= slowThresholdNanos) {
+            slowStatements.add(new StatementSample(sql, parameterShape(queryInfoList.get(0)),
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 0, elapsed / 1e6, caller(), Instant.now()));
+        }
+
+        RequestScope scope = requestScope.get();
+        if (scope != null) {
+            scope.count(sql, nPlusOneThreshold);
+        }
+    }
+
+    /**
+     * Starts counting statements on the current thread; pair with {@link #closeRequest(String)}.
+     */
+    public void openRequest() {
+        requestScope.set(new RequestScope());
+    }
+
+    /**
+     * Stops counting and records every statement that reached the N+1 threshold.
+     */
+    public void closeRequest(String request) {
+        RequestScope scope = requestScope.get();
+        requestScope.remove();
+        if (scope == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        scope.counts.forEach((sql, count) -> {
+            if (count.executions >= nPlusOneThreshold) {
+                nPlusOnes.add(new NPlusOneSample(request, sql, count.executions, count.caller, now));
+            }
+        });
+    }
+
+    public List<StatementSample> slowest() {
+        return slowStatements.snapshot().stream()
+                .sorted(Comparator.comparingDouble(StatementSample::elapsedMillis).reversed())
+                .toList();
+    }
+
+    public List<StatementSummary> hottest(int limit) {
+        return statsBySql.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementSummary::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<NPlusOneSample> nPlusOnes() {
+        return nPlusOnes.snapshot().stream()
+                .sorted(Comparator.comparing(NPlusOneSample::at).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        slowStatements.clear();
+        nPlusOnes.clear();
+        statsBySql.clear();
+    }
+
+    /**
+     * Collapses whitespace and variable-length {@code IN (?, ?, ...)} lists so statements that
+     * differ only in parameter count share one shape.
+     */
+    static String normalize(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(collapsed).replaceAll("(?...)");
+    }
+
+    static String parameterShape(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+        if (parameters.isEmpty()) {
+            return "[]";
+        }
+        StringJoiner shape = new StringJoiner(", ", "[", "]");
+        for (ParameterSetOperation operation : parameters.get(0)) {
+            Object[] args = operation.getArgs();
+            if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 || args[1] == null) {
+                shape.add("null");
+            } else {
+                shape.add(args[1].getClass().getSimpleName());
+            }
+        }
+        return shape.toString();
+    }
+
+    /**
+     * The nearest {@link Service} method on the stack, or the nearest application frame when no
+     * service is involved.
+     */
+    static String caller() {
+        return WALKER.walk(frames -> {
+            StackWalker.StackFrame firstApplicationFrame = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(APP_PACKAGE) || className.startsWith(OWN_PACKAGE)
+                        || className.contains("$$")) {
+                    continue;
+                }
+                if (frame.getDeclaringClass().isAnnotationPresent(Service.class)) {
+                    return describe(frame);
+                }
+                if (firstApplicationFrame == null) {
+                    firstApplicationFrame = frame;
+                }
+            }
+            return firstApplicationFrame != null ? describe(firstApplicationFrame) : "unknown";
+        });
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        return frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName();
+    }
+
+    private static final class Stats {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            executions.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        StatementSummary summary(String sql) {
+            long count = executions.sum();
+            double total = totalNanos.sum() / 1e6;
+            return new StatementSummary(sql, count, total, count == 0 ? 0 : total / count, maxNanos.get() / 1e6);
+        }
+    }
+
+    private static final class RequestScope {
+        private final Map<String, Count> counts = new HashMap<>();
+
+        void count(String sql, int threshold) {
+            Count count = counts.computeIfAbsent(sql, key -> new Count());
+            if (++count.executions == threshold) {
+                count.caller = caller();
+            }
+        }
+    }
+
+    private static final class Count {
+        private int executions;
+        private String caller;
+    }
+}
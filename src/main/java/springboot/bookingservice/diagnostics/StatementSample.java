@@ -0,0 +1,11 @@
+package springboot.bookingservice.diagnostics;
+
+import java.time.Instant;
+
+/**
+ * One slow statement: normalized SQL, the Java types of its bind parameters, its duration and
+ * the service method that issued it.
+ */
+public record StatementSample(String sql, String parameters, int batchSize, double elapsedMillis,
+                              String caller, Instant at) {
+}
@@ -0,0 +1,8 @@
+package springboot.bookingservice.diagnostics;
+
+/**
+ * Aggregated timings of one statement shape since start-up or the last reset.
+ */
+public record StatementSummary(String sql, long executions, double totalMillis, double meanMillis,
+                               double maxMillis) {
+}
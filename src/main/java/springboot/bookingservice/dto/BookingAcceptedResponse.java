@@ -5,12 +5,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
+import java.util.UUID;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class GetBookingResponse {
-  private List<BookingResponse> bookings;
-}
\ No newline at end of file
+public class BookingAcceptedResponse {
+  private UUID id;
+  private String state;
+}
@@ -0,0 +1,21 @@
+package springboot.bookingservice.dto;
+
+import lombok.Builder;
+import springboot.bookingservice.repository.BookingSlot;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record CalendarResponse(
+    LocalDate from,
+    LocalDate to,
+    String bucket,
+    List<Bucket> buckets) {
+
+  /**
+   * Bookings starting on or after {@code start} and before {@code end}, ordered by start time.
+   */
+  public record Bucket(LocalDate start, LocalDate end, int count, List<BookingSlot> bookings) {
+  }
+}
@@ -0,0 +1,27 @@
+package springboot.bookingservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of the change feed. Pass {@code nextToken} as {@code since} to continue; it is
+ * returned even when the page is empty.
+ */
+@Builder
+public record ChangeFeedResponse(
+    List<Change> changes,
+    String nextToken,
+    boolean hasMore) {
+
+  /**
+   * An {@code UPSERT} carries the booking's current state; an {@code ARCHIVED} tombstone only
+   * its ID.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record Change(UUID id, String type, LocalDateTime updatedAt, BookingResponse booking) {
+  }
+}
@@ -0,0 +1,33 @@
+package springboot.bookingservice.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record RevenueReportResponse(
+    LocalDate from,
+    LocalDate to,
+    int partitions,
+    int parallelism,
+    long bookings,
+    BigDecimal totalPrice,
+    List<Group> groups,
+    List<PriceRange> priceRanges) {
+
+  /**
+   * Bookings of one status and payment method; {@code paymentMethod} is {@code null} for
+   * bookings without one.
+   */
+  public record Group(String status, String paymentMethod, long count, BigDecimal totalPrice,
+                      BigDecimal averagePrice, BigDecimal minPrice, BigDecimal maxPrice) {
+  }
+
+  /**
+   * Bookings priced at least {@code min} and below {@code max}; a {@code null} bound is open.
+   */
+  public record PriceRange(BigDecimal min, BigDecimal max, long count, BigDecimal totalPrice) {
+  }
+}
@@ -0,0 +1,14 @@
+package springboot.bookingservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record SearchBookingResponse(
+    List<BookingResponse> bookings,
+    int page,
+    int size,
+    long totalElements,
+    int totalPages) {
+}
@@ -0,0 +1,46 @@
+package springboot.bookingservice.enrichment;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds concurrent calls to one upstream so a slow upstream cannot tie up every request thread.
+ */
+class Bulkhead {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    Bulkhead(int maxConcurrent, Duration maxWait) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    boolean tryAcquire() {
+        if (maxWaitNanos <= 0) {
+            return permits.tryAcquire();
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Takes a permit only if one is free right now.
+     */
+    boolean tryAcquireNow() {
+        return permits.tryAcquire();
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    int available() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,141 @@
+package springboot.bookingservice.enrichment;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker. While closed, the outcomes of the last {@code windowSize} calls
+ * are kept; once at least {@code minimumCalls} are recorded and the failure percentage reaches
+ * the threshold, the circuit opens and rejects calls for {@code openDuration}. It then lets up
+ * to {@code halfOpenProbes} calls through: that many successes close it, a single failure opens
+ * it again.
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicIntegerArray window;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger probesStarted = new AtomicInteger();
+    private final AtomicInteger probesSucceeded = new AtomicInteger();
+    private volatile long openedAt;
+
+    CircuitBreaker(int failureRateThreshold, int windowSize, int minimumCalls, Duration openDuration,
+                   int halfOpenProbes, LongSupplier nanoClock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new AtomicIntegerArray(windowSize);
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Whether a call may go ahead. A granted permission must be followed by
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #releasePermission()}.
+     */
+    boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                probesStarted.set(0);
+                probesSucceeded.set(0);
+            }
+            current = state.get();
+        }
+        if (current == State.HALF_OPEN) {
+            if (probesStarted.incrementAndGet() > halfOpenProbes) {
+                probesStarted.decrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a permission that was granted but not used.
+     */
+    void releasePermission() {
+        if (state.get() == State.HALF_OPEN) {
+            probesStarted.decrementAndGet();
+        }
+    }
+
+    void onSuccess() {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            if (probesSucceeded.incrementAndGet() >= halfOpenProbes && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                resetWindow();
+            }
+        } else if (current == State.CLOSED) {
+            record(SUCCESS);
+        }
+    }
+
+    void onFailure() {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            open(State.HALF_OPEN);
+        } else if (current == State.CLOSED) {
+            record(FAILURE);
+            int recorded = calls.get();
+            if (recorded >= minimumCalls && failures.get() * 100 >= failureRateThreshold * recorded) {
+                open(State.CLOSED);
+            }
+        }
+    }
+
+    State state() {
+        State current = state.get();
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return current;
+    }
+
+    private void open(State from) {
+        openedAt = nanoClock.getAsLong();
+        state.compareAndSet(from, State.OPEN);
+    }
+
+    private void record(int outcome) {
+        int slot = (int) (cursor.getAndIncrement() % window.length());
+        int previous = window.getAndSet(slot, outcome);
+        if (previous == EMPTY) {
+            calls.incrementAndGet();
+        } else if (previous == FAILURE) {
+            failures.decrementAndGet();
+        }
+        if (outcome == FAILURE) {
+            failures.incrementAndGet();
+        }
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < window.length(); i++) {
+            window.set(i, EMPTY);
+        }
+        calls.set(0);
+        failures.set(0);
+    }
+}
@@ -0,0 +1,88 @@
+package springboot.bookingservice.enrichment;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the vehicle and service-name upstreams used to enrich bookings.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.enrichment")
+public class EnrichmentProperties {
+
+    /**
+     * Whether upstream calls go through bulkheads and circuit breakers.
+     */
+    private boolean resilienceEnabled = true;
+
+    /**
+     * Return bookings with placeholder names and {@code partial: true} when an upstream is
+     * unavailable; otherwise the request fails with 503.
+     */
+    private boolean partialResponses = true;
+
+    private Upstream vehicle = new Upstream();
+
+    private Upstream services = new Upstream();
+
+    private FaultInjection faultInjection = new FaultInjection();
+
+    @Data
+    public static class Upstream {
+
+        /**
+         * Bulkhead size: concurrent calls allowed, hedges included.
+         */
+        private int maxConcurrent = 32;
+
+        /**
+         * How long a call may wait for a bulkhead permit; zero fails fast.
+         */
+        private Duration maxWait = Duration.ZERO;
+
+        /**
+         * Calls slower than this count as failures. With hedging on they are also abandoned.
+         */
+        private Duration timeout = Duration.ofMillis(500);
+
+        /**
+         * Send a second, hedged request when the first has not answered after this long. Zero
+         * disables hedging, and calls then run on the caller's thread.
+         */
+        private Duration hedgeDelay = Duration.ZERO;
+
+        /**
+         * Failure percentage over the sliding window that opens the circuit.
+         */
+        private int failureRateThreshold = 50;
+
+        private int slidingWindowSize = 20;
+
+        /**
+         * Calls needed in the window before the failure rate is evaluated.
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * How long an open circuit rejects calls before letting probes through.
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * Successful probes needed in half-open state to close the circuit again.
+         */
+        private int halfOpenProbes = 3;
+    }
+
+    @Data
+    public static class FaultInjection {
+
+        /**
+         * Installs a {@link FaultInjector} in front of the local upstream stubs, for tests and
+         * local experiments.
+         */
+        private boolean enabled = false;
+    }
+}
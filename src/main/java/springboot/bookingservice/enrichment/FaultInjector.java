@@ -0,0 +1,63 @@
+package springboot.bookingservice.enrichment;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Makes the local upstream stubs misbehave on demand: add latency to every n-th call and fail
+ * every m-th one. Faults are set per upstream and can be changed while the application runs.
+ */
+public class FaultInjector {
+
+    /**
+     * @param latency   delay added to slow calls
+     * @param slowEvery every n-th call is slow, starting with the first; 0 for none
+     * @param failEvery every n-th call throws, starting with the first; 0 for none
+     */
+    public record Fault(Duration latency, int slowEvery, int failEvery) {
+    }
+
+    private final Map<String, Fault> faults = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> calls = new ConcurrentHashMap<>();
+
+    public void inject(String upstream, Fault fault) {
+        calls.remove(upstream);
+        faults.put(upstream, fault);
+    }
+
+    public void clear() {
+        faults.clear();
+        calls.clear();
+    }
+
+    public VehicleLookup wrap(VehicleLookup delegate) {
+        return vehicleId -> apply("vehicle", () -> delegate.vehicleName(vehicleId));
+    }
+
+    public ServiceLookup wrap(ServiceLookup delegate) {
+        return serviceIds -> apply("services", () -> delegate.serviceNames(serviceIds));
+    }
+
+    <T> T apply(String upstream, Supplier<T> call) {
+        Fault fault = faults.get(upstream);
+        if (fault == null) {
+            return call.get();
+        }
+        long index = calls.computeIfAbsent(upstream, key -> new AtomicLong()).getAndIncrement();
+        if (fault.slowEvery() > 0 && index % fault.slowEvery() == 0) {
+            try {
+                Thread.sleep(fault.latency().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted during injected latency", e);
+            }
+        }
+        if (fault.failEvery() > 0 && index % fault.failEvery() == 0) {
+            throw new IllegalStateException("Injected failure in " + upstream);
+        }
+        return call.get();
+    }
+}
@@ -0,0 +1,26 @@
+package springboot.bookingservice.enrichment;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-process stand-in for the service catalogue. Labels for up to 32 services are shared
+ * constants.
+ */
+public class LocalServiceLookup implements ServiceLookup {
+
+    private static final String[] SERVICE_LABELS = new String[33];
+
+    static {
+        for (int i = 1; i < SERVICE_LABELS.length; i++) {
+            SERVICE_LABELS[i] = i + " Service(s) Selected";
+        }
+    }
+
+    @Override
+    public String serviceNames(List<UUID> serviceIds) {
+        if (serviceIds == null || serviceIds.isEmpty()) return "No Services";
+        int count = serviceIds.size();
+        return count < SERVICE_LABELS.length ? SERVICE_LABELS[count] : count + " Service(s) Selected";
+    }
+}
@@ -0,0 +1,29 @@
+package springboot.bookingservice.enrichment;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for the vehicle service. Labels are flyweights: each distinct vehicle is
+ * rendered once and shared by every response.
+ */
+public class LocalVehicleLookup implements VehicleLookup {
+
+    private static final int MAX_CACHED_VEHICLES = 10_000;
+
+    private final Map<UUID, String> vehicleLabels = new ConcurrentHashMap<>();
+
+    @Override
+    public String vehicleName(UUID vehicleId) {
+        if (vehicleId == null) return "Unknown Vehicle";
+        String label = vehicleLabels.get(vehicleId);
+        if (label == null) {
+            if (vehicleLabels.size() >= MAX_CACHED_VEHICLES) {
+                vehicleLabels.clear();
+            }
+            label = vehicleLabels.computeIfAbsent(vehicleId, id -> "Vehicle " + id.toString().substring(0, 5) + "...");
+        }
+        return label;
+    }
+}
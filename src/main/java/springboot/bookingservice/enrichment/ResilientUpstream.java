@@ -0,0 +1,217 @@
+package springboot.bookingservice.enrichment;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Guards one enrichment upstream with a circuit breaker, a bulkhead and, optionally, hedged
+ * requests.
+ * <p>
+ * Without hedging, calls run on the caller's thread and the bulkhead bounds how many request
+ * threads the upstream can hold; a call over the timeout still returns its result but counts as
+ * a failure. With hedging, calls run on a dedicated pool: if the first attempt has not answered
+ * after the hedge delay a second one is sent, the first success wins, and the caller gives up
+ * at the timeout. Every attempt holds a bulkhead permit until it actually finishes, so
+ * abandoned attempts still count against the upstream's concurrency.
+ * <p>
+ * Metrics, tagged with the upstream: {@code booking.enrichment.calls} by outcome,
+ * {@code booking.enrichment.hedges}, {@code booking.enrichment.circuit.state} (0 closed, 1 open,
+ * 2 half-open) and {@code booking.enrichment.bulkhead.available}.
+ */
+public class ResilientUpstream implements UpstreamGuard, DisposableBean {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final long timeoutNanos;
+    private final long hedgeDelayNanos;
+    private final ExecutorService executor;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter slowCalls;
+    private final Counter timeouts;
+    private final Counter rejections;
+    private final Counter shortCircuits;
+    private final Counter hedges;
+
+    public ResilientUpstream(String name, EnrichmentProperties.Upstream settings, MeterRegistry meterRegistry) {
+        this(name, settings, meterRegistry, System::nanoTime);
+    }
+
+    ResilientUpstream(String name, EnrichmentProperties.Upstream settings, MeterRegistry meterRegistry,
+                      LongSupplier nanoClock) {
+        this.name = name;
+        this.circuitBreaker = new CircuitBreaker(settings.getFailureRateThreshold(), settings.getSlidingWindowSize(),
+                settings.getMinimumCalls(), settings.getOpenDuration(), settings.getHalfOpenProbes(), nanoClock);
+        this.bulkhead = new Bulkhead(settings.getMaxConcurrent(), settings.getMaxWait());
+        this.timeoutNanos = settings.getTimeout().toNanos();
+        this.hedgeDelayNanos = settings.getHedgeDelay().toNanos();
+        this.executor = hedgeDelayNanos > 0 ? newExecutor(name) : null;
+
+        this.successes = outcome(meterRegistry, "success");
+        this.failures = outcome(meterRegistry, "failure");
+        this.slowCalls = outcome(meterRegistry, "slow");
+        this.timeouts = outcome(meterRegistry, "timeout");
+        this.rejections = outcome(meterRegistry, "rejected");
+        this.shortCircuits = outcome(meterRegistry, "short_circuited");
+        this.hedges = Counter.builder("booking.enrichment.hedges").tag("upstream", name)
+                .description("Hedged second requests sent to an enrichment upstream").register(meterRegistry);
+        Gauge.builder("booking.enrichment.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .tag("upstream", name)
+                .description("Circuit state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("booking.enrichment.bulkhead.available", bulkhead, Bulkhead::available)
+                .tag("upstream", name)
+                .description("Free bulkhead permits")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T call(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            shortCircuits.increment();
+            throw new UpstreamUnavailableException(name, "circuit open", null);
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            rejections.increment();
+            throw new UpstreamUnavailableException(name, "bulkhead full", null);
+        }
+        return executor == null ? callInline(call) : callHedged(call);
+    }
+
+    private <T> T callInline(Supplier<T> call) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            failures.increment();
+            throw new UpstreamUnavailableException(name, "call failed", e);
+        } finally {
+            bulkhead.release();
+        }
+        if (System.nanoTime() - start > timeoutNanos) {
+            circuitBreaker.onFailure();
+            slowCalls.increment();
+        } else {
+            circuitBreaker.onSuccess();
+            successes.increment();
+        }
+        return result;
+    }
+
+    private <T> T callHedged(Supplier<T> call) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        Future<?> primary = submit(call, result, pending);
+        Future<?> hedge = null;
+        try {
+            if (hedgeDelayNanos < timeoutNanos) {
+                try {
+                    return succeeded(result.get(hedgeDelayNanos, TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    if (bulkhead.tryAcquireNow()) {
+                        pending.incrementAndGet();
+                        hedges.increment();
+                        hedge = submit(call, result, pending);
+                    }
+                }
+            }
+            return succeeded(result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            circuitBreaker.onFailure();
+            timeouts.increment();
+            throw new UpstreamUnavailableException(name, "timed out", e);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            failures.increment();
+            throw new UpstreamUnavailableException(name, "call failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.releasePermission();
+            throw new UpstreamUnavailableException(name, "interrupted", e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private <T> T succeeded(T value) {
+        circuitBreaker.onSuccess();
+        successes.increment();
+        return value;
+    }
+
+    /**
+     * Runs one attempt holding an already acquired bulkhead permit. The result completes with
+     * the first success, or with the failure once every attempt has failed.
+     */
+    private <T> Future<?> submit(Supplier<T> call, CompletableFuture<T> result, AtomicInteger pending) {
+        try {
+            return executor.submit(() -> {
+                try {
+                    result.complete(call.get());
+                } catch (RuntimeException e) {
+                    if (pending.decrementAndGet() == 0) {
+                        result.completeExceptionally(e);
+                    }
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("booking.enrichment.calls")
+                .tag("upstream", name)
+                .tag("outcome", outcome)
+                .description("Calls to an enrichment upstream by outcome")
+                .register(meterRegistry);
+    }
+
+    private static ExecutorService newExecutor(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        // Pool size is bounded by the bulkhead: every running attempt holds a permit
+        return ContextExecutorService.wrap(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "enrichment-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), ContextSnapshotFactory.builder().build()::captureAll);
+    }
+}
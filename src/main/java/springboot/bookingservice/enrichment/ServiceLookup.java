@@ -0,0 +1,13 @@
+package springboot.bookingservice.enrichment;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resolves the display names of booked services; the upstream behind {@code serviceNames}.
+ */
+@FunctionalInterface
+public interface ServiceLookup {
+
+    String serviceNames(List<UUID> serviceIds);
+}
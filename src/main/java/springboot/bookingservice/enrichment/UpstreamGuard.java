@@ -0,0 +1,24 @@
+package springboot.bookingservice.enrichment;
+
+import java.util.function.Supplier;
+
+/**
+ * Protects calls to one upstream.
+ */
+public interface UpstreamGuard {
+
+    /**
+     * Calls straight through, for when resilience is switched off.
+     */
+    UpstreamGuard NONE = new UpstreamGuard() {
+        @Override
+        public <T> T call(Supplier<T> call) {
+            return call.get();
+        }
+    };
+
+    /**
+     * @throws UpstreamUnavailableException if the call was not made or did not succeed in time
+     */
+    <T> T call(Supplier<T> call);
+}
@@ -0,0 +1,19 @@
+package springboot.bookingservice.enrichment;
+
+/**
+ * An enrichment upstream could not answer: its circuit is open, its bulkhead is full, the call
+ * timed out or it failed.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final String upstream;
+
+    public UpstreamUnavailableException(String upstream, String reason, Throwable cause) {
+        super("Upstream '" + upstream + "' unavailable: " + reason, cause);
+        this.upstream = upstream;
+    }
+
+    public String getUpstream() {
+        return upstream;
+    }
+}
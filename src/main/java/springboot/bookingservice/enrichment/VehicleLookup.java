@@ -0,0 +1,12 @@
+package springboot.bookingservice.enrichment;
+
+import java.util.UUID;
+
+/**
+ * Resolves a vehicle's display name; the upstream behind {@code vehicleDescription}.
+ */
+@FunctionalInterface
+public interface VehicleLookup {
+
+    String vehicleName(UUID vehicleId);
+}
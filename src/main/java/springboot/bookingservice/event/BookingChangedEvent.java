@@ -0,0 +1,28 @@
+package springboot.bookingservice.event;
+
+import springboot.bookingservice.model.BookingStatus;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a booking is created, changes status or is purged.
+ *
+ * @param bookingId      the booking that changed
+ * @param userId         owner of the booking
+ * @param previousStatus status before the change, {@code null} for new bookings
+ * @param status         status after the change, {@code null} for purged bookings
+ */
+public record BookingChangedEvent(UUID bookingId, UUID userId, BookingStatus previousStatus, BookingStatus status) {
+
+    public static BookingChangedEvent deleted(UUID bookingId, UUID userId, BookingStatus status) {
+        return new BookingChangedEvent(bookingId, userId, status, null);
+    }
+
+    public boolean isCreation() {
+        return previousStatus == null;
+    }
+
+    public boolean isDeletion() {
+        return status == null;
+    }
+}
@@ -0,0 +1,74 @@
+package springboot.bookingservice.ingest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import springboot.bookingservice.model.BookingStatus;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Inserts logged bookings with JDBC batches, skipping IDs that already exist so a replay after a
+ * crash between insert and checkpoint is harmless. Must run inside a transaction.
+ */
+public class BookingBatchWriter {
+
+    private static final String INSERT_BOOKING = "insert into bookings (id, user_id, vehicle_id, booking_date, status, "
+            + "additional_notes, payment_method, phone_number, total_price, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SERVICE = "insert into booking_services (booking_id, service_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookingBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the bookings that were inserted by this call
+     */
+    public List<PendingBooking> write(List<PendingBooking> bookings) {
+        if (bookings.isEmpty()) {
+            return bookings;
+        }
+        Set<UUID> existing = existingIds(bookings);
+        List<PendingBooking> fresh = bookings.stream().filter(b -> !existing.contains(b.id())).toList();
+        List<Object[]> bookingRows = new ArrayList<>(fresh.size());
+        List<Object[]> serviceRows = new ArrayList<>();
+        for (PendingBooking booking : fresh) {
+            Timestamp accepted = Timestamp.valueOf(booking.acceptedAt());
+            bookingRows.add(new Object[]{
+                    booking.id(),
+                    booking.request().getUserId(),
+                    booking.request().getVehicleId(),
+                    Timestamp.valueOf(booking.request().getBookingDate()),
+                    BookingStatus.PENDING.name(),
+                    booking.request().getAdditionalNotes(),
+                    booking.request().getPaymentMethod(),
+                    booking.request().getPhoneNumber(),
+                    booking.request().getTotalPrice(),
+                    accepted,
+                    accepted
+            });
+            List<UUID> serviceIds = booking.request().getServiceIds() == null
+                    ? Collections.emptyList() : booking.request().getServiceIds();
+            for (UUID serviceId : serviceIds) {
+                serviceRows.add(new Object[]{booking.id(), serviceId});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_BOOKING, bookingRows);
+        jdbcTemplate.batchUpdate(INSERT_SERVICE, serviceRows);
+        return fresh;
+    }
+
+    private Set<UUID> existingIds(List<PendingBooking> bookings) {
+        String placeholders = String.join(", ", Collections.nCopies(bookings.size(), "?"));
+        Object[] ids = bookings.stream().map(PendingBooking::id).toArray();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select id from bookings where id in (" + placeholders + ")", UUID.class, ids));
+    }
+}
@@ -0,0 +1,225 @@
+package springboot.bookingservice.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import springboot.bookingservice.datasource.ReadYourWritesTracker;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.repository.BookingRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asynchronous booking ingestion.
+ * <p>
+ * {@link #submit} appends the request to the {@link BookingWriteAheadLog} and returns its ID
+ * without touching the database; {@link #drain} periodically moves logged bookings into the
+ * database in large batches and then advances the log checkpoint. Records left after a crash
+ * are found again when the log is reopened and drained like any other.
+ * <p>
+ * A batch the database rejects is retried one booking at a time; bookings that still violate a
+ * constraint, and unreadable records, are appended to the dead-letter file so they cannot hold
+ * up the bookings logged after them.
+ */
+@Slf4j
+public class BookingIngestService {
+
+    /**
+     * Where an acknowledged booking currently is.
+     */
+    public enum State {
+        PENDING, PERSISTED, UNKNOWN
+    }
+
+    private final BookingWriteAheadLog wal;
+    private final BookingBatchWriter writer;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Path deadLetterPath;
+    private final Counter deadLettered;
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public BookingIngestService(BookingWriteAheadLog wal, BookingBatchWriter writer, BookingRepository bookingRepository,
+                                TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                                ReadYourWritesTracker readYourWritesTracker, ObjectMapper objectMapper, MeterRegistry meterRegistry, int batchSize,
+                                Path deadLetterPath) {
+        this.wal = wal;
+        this.writer = writer;
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.deadLetterPath = deadLetterPath;
+        for (BookingWriteAheadLog.Entry entry : wal.read(Integer.MAX_VALUE)) {
+            PendingBooking booking = decode(entry);
+            if (booking != null) {
+                pending.put(booking.id(), booking.acceptedAt());
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Recovered {} bookings from the write-ahead log", pending.size());
+        }
+        Gauge.builder("booking.ingest.pending", pending, Map::size)
+                .description("Acknowledged bookings not yet written to the database")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("booking.ingest.dead-lettered")
+                .description("Logged bookings moved to the dead-letter file instead of the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Logs an already validated request and returns the ID the booking will be stored under.
+     *
+     * @throws WalFullException if the log has no room left
+     */
+    public UUID submit(BookingRequest request) {
+        PendingBooking booking = new PendingBooking(UUID.randomUUID(), LocalDateTime.now(), request);
+        // registered before the append: once logged, a concurrent drain may persist and remove it
+        pending.put(booking.id(), booking.acceptedAt());
+        try {
+            wal.append(objectMapper.writeValueAsBytes(booking));
+        } catch (IOException e) {
+            pending.remove(booking.id());
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            pending.remove(booking.id());
+            throw e;
+        }
+        return booking.id();
+    }
+
+    public State state(UUID id) {
+        if (pending.containsKey(id)) {
+            return State.PENDING;
+        }
+        return bookingRepository.existsById(id) ? State.PERSISTED : State.UNKNOWN;
+    }
+
+    public List<UUID> pendingIds(int limit) {
+        return pending.keySet().stream().limit(limit).toList();
+    }
+
+    /**
+     * Writes logged bookings to the database until the log is empty.
+     *
+     * @return number of bookings inserted
+     */
+    @Scheduled(fixedDelayString = "${booking.ingest.drain-interval:200ms}")
+    public synchronized int drain() {
+        int inserted = 0;
+        List<BookingWriteAheadLog.Entry> entries;
+        while (!(entries = wal.read(batchSize)).isEmpty()) {
+            List<BookingWriteAheadLog.Entry> readable = new ArrayList<>(entries.size());
+            List<PendingBooking> batch = new ArrayList<>(entries.size());
+            for (BookingWriteAheadLog.Entry entry : entries) {
+                PendingBooking booking = decode(entry);
+                if (booking == null) {
+                    deadLetter(entry);
+                } else {
+                    readable.add(entry);
+                    batch.add(booking);
+                }
+            }
+            try {
+                inserted += insert(batch);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Batch of {} logged bookings rejected, retrying one by one: {}", batch.size(), e.getMessage());
+                inserted += insertEach(readable, batch);
+            }
+            wal.commit(entries.get(entries.size() - 1).nextOffset());
+            batch.forEach(b -> pending.remove(b.id()));
+        }
+        if (inserted > 0) {
+            log.info("Wrote {} logged bookings to the database", inserted);
+        }
+        return inserted;
+    }
+
+    private int insert(List<PendingBooking> bookings) {
+        if (bookings.isEmpty()) {
+            return 0;
+        }
+        List<PendingBooking> written = transactionTemplate.execute(status -> {
+            List<PendingBooking> fresh = writer.write(bookings);
+            fresh.forEach(b -> eventPublisher.publishEvent(
+                    new BookingChangedEvent(b.id(), b.request().getUserId(), null, BookingStatus.PENDING)));
+            return fresh;
+        });
+        if (written == null) {
+            return 0;
+        }
+        // like a synchronous create, the owner reads from the primary until replicas caught up
+        written.forEach(b -> readYourWritesTracker.recordWrite(b.request().getUserId()));
+        return written.size();
+    }
+
+    private int insertEach(List<BookingWriteAheadLog.Entry> entries, List<PendingBooking> batch) {
+        int inserted = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                inserted += insert(List.of(batch.get(i)));
+            } catch (DataIntegrityViolationException e) {
+                log.error("Logged booking {} rejected by the database: {}", batch.get(i).id(), e.getMessage());
+                deadLetter(entries.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Appends the raw record as one line to the dead-letter file, forced to disk before the
+     * log checkpoint moves past it.
+     */
+    private void deadLetter(BookingWriteAheadLog.Entry entry) {
+        try {
+            Path parent = deadLetterPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            byte[] line = new byte[entry.payload().length + 1];
+            System.arraycopy(entry.payload(), 0, line, 0, entry.payload().length);
+            line[line.length - 1] = '\n';
+            Files.write(deadLetterPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to dead-letter file " + deadLetterPath, e);
+        }
+        deadLettered.increment();
+    }
+
+    /**
+     * @return {@code null} if the record is not a booking
+     */
+    private PendingBooking decode(BookingWriteAheadLog.Entry entry) {
+        try {
+            return objectMapper.readValue(entry.payload(), PendingBooking.class);
+        } catch (IOException e) {
+            log.error("Unreadable write-ahead log record at offset {}: {}", entry.offset(), e.getMessage());
+            return null;
+        }
+    }
+}
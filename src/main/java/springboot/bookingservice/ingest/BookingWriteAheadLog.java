@@ -0,0 +1,214 @@
+package springboot.bookingservice.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of accepted booking requests in a memory-mapped file.
+ * <p>
+ * Layout: a fixed header holding the epoch and the checkpoint (offset of the first record not
+ * yet written to the database), followed by a ring of records of
+ * {@code [length][epoch][crc32][payload]}. Offsets only grow and map onto the ring modulo its
+ * size, so a record may wrap around the end; committing frees the space before the checkpoint
+ * for new records. The length is written last, and a record only counts when its epoch matches
+ * the header and its checksum, which also covers the record's offset, is intact, so torn writes
+ * and leftovers from an earlier lap or from before the last reset are ignored. When the reader
+ * catches up with the writer the log is rewound and the epoch incremented.
+ */
+public class BookingWriteAheadLog implements AutoCloseable {
+
+    static final int HEADER_SIZE = 64;
+    private static final int MAGIC = 0x424B574C;
+    private static final int VERSION = 2;
+    private static final int RECORD_HEADER_SIZE = 12;
+    private static final int EPOCH_OFFSET = 8;
+    private static final int CHECKPOINT_OFFSET = 16;
+
+    /**
+     * A logged payload and the offset right after it, to be passed to {@link #commit(long)}.
+     */
+    public record Entry(long offset, long nextOffset, byte[] payload) {
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int ringSize;
+    private final boolean syncOnAppend;
+    private int epoch;
+    private long checkpoint;
+    private long writeOffset;
+
+    public BookingWriteAheadLog(Path path, long capacity, boolean syncOnAppend) throws IOException {
+        if (capacity <= HEADER_SIZE + RECORD_HEADER_SIZE || capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("WAL capacity must be between " + (HEADER_SIZE + RECORD_HEADER_SIZE)
+                    + " bytes and 2 GB");
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.syncOnAppend = syncOnAppend;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(capacity, channel.size());
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.ringSize = (int) size - HEADER_SIZE;
+        if (buffer.getInt(0) == MAGIC) {
+            recover();
+        } else {
+            epoch = 1;
+            rewind();
+        }
+    }
+
+    /**
+     * Appends a payload and, if configured, forces it to disk.
+     *
+     * @throws WalFullException if the payload does not fit in the space not yet committed
+     */
+    public synchronized long append(byte[] payload) {
+        long offset = writeOffset;
+        long next = offset + RECORD_HEADER_SIZE + payload.length;
+        if (next - checkpoint > ringSize) {
+            throw new WalFullException("Write-ahead log is full");
+        }
+        write(offset + RECORD_HEADER_SIZE, payload);
+        writeInt(offset + 4, epoch);
+        writeInt(offset + 8, checksum(offset, payload));
+        writeInt(offset, payload.length);
+        writeOffset = next;
+        if (syncOnAppend) {
+            force(offset, next);
+        }
+        return offset;
+    }
+
+    /**
+     * Reads up to {@code max} records following the checkpoint.
+     */
+    public synchronized List<Entry> read(int max) {
+        List<Entry> entries = new ArrayList<>();
+        long offset = checkpoint;
+        while (offset < writeOffset && entries.size() < max) {
+            byte[] payload = new byte[readInt(offset)];
+            read(offset + RECORD_HEADER_SIZE, payload);
+            long next = offset + RECORD_HEADER_SIZE + payload.length;
+            entries.add(new Entry(offset, next, payload));
+            offset = next;
+        }
+        return entries;
+    }
+
+    /**
+     * Marks everything before {@code nextOffset} as written to the database.
+     */
+    public synchronized void commit(long nextOffset) {
+        if (nextOffset < checkpoint || nextOffset > writeOffset) {
+            throw new IllegalArgumentException("Checkpoint " + nextOffset + " outside of " + checkpoint + ".." + writeOffset);
+        }
+        if (nextOffset == writeOffset) {
+            epoch++;
+            rewind();
+            return;
+        }
+        checkpoint = nextOffset;
+        buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    public synchronized long pendingBytes() {
+        return writeOffset - checkpoint;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void rewind() {
+        checkpoint = HEADER_SIZE;
+        writeOffset = HEADER_SIZE;
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(EPOCH_OFFSET, epoch);
+        buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    private void recover() {
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Unsupported write-ahead log version " + buffer.getInt(4));
+        }
+        epoch = buffer.getInt(EPOCH_OFFSET);
+        checkpoint = buffer.getLong(CHECKPOINT_OFFSET);
+        long offset = checkpoint;
+        while (offset + RECORD_HEADER_SIZE - checkpoint <= ringSize) {
+            int length = readInt(offset);
+            if (length <= 0 || offset + RECORD_HEADER_SIZE + length - checkpoint > ringSize
+                    || readInt(offset + 4) != epoch) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            read(offset + RECORD_HEADER_SIZE, payload);
+            if (readInt(offset + 8) != checksum(offset, payload)) {
+                break;
+            }
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        writeOffset = offset;
+    }
+
+    private int checksum(long offset, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(epoch);
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, offset));
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private int position(long offset) {
+        return HEADER_SIZE + (int) ((offset - HEADER_SIZE) % ringSize);
+    }
+
+    private void write(long offset, byte[] bytes) {
+        int position = position(offset);
+        int head = Math.min(bytes.length, buffer.capacity() - position);
+        buffer.put(position, bytes, 0, head);
+        buffer.put(HEADER_SIZE, bytes, head, bytes.length - head);
+    }
+
+    private void read(long offset, byte[] bytes) {
+        int position = position(offset);
+        int head = Math.min(bytes.length, buffer.capacity() - position);
+        buffer.get(position, bytes, 0, head);
+        buffer.get(HEADER_SIZE, bytes, head, bytes.length - head);
+    }
+
+    private void writeInt(long offset, int value) {
+        write(offset, ByteBuffer.allocate(Integer.BYTES).putInt(0, value).array());
+    }
+
+    private int readInt(long offset) {
+        byte[] bytes = new byte[Integer.BYTES];
+        read(offset, bytes);
+        return ByteBuffer.wrap(bytes).getInt();
+    }
+
+    private void force(long from, long to) {
+        int start = position(from);
+        int end = start + (int) (to - from);
+        if (end <= buffer.capacity()) {
+            buffer.force(start, end - start);
+        } else {
+            buffer.force(start, buffer.capacity() - start);
+            buffer.force(HEADER_SIZE, end - buffer.capacity());
+        }
+    }
+}
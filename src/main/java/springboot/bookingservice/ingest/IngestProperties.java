@@ -0,0 +1,44 @@
+package springboot.bookingservice.ingest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for asynchronous booking ingestion through a local write-ahead log.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.ingest")
+public class IngestProperties {
+
+    /**
+     * Acknowledge booking requests once they are in the write-ahead log instead of the database.
+     */
+    private boolean asyncEnabled = false;
+
+    private String walPath = "./data/booking-ingest.wal";
+
+    /**
+     * Logged bookings the database rejects are appended here, one JSON record per line.
+     */
+    private String deadLetterPath = "./data/booking-ingest.dead";
+
+    /**
+     * Size of the memory-mapped log; requests are written synchronously while it is full.
+     */
+    private DataSize walCapacity = DataSize.ofMegabytes(64);
+
+    /**
+     * Force every append to disk before acknowledging it.
+     */
+    private boolean syncOnAppend = true;
+
+    /**
+     * Bookings written to the database per transaction.
+     */
+    private int batchSize = 500;
+
+    private Duration drainInterval = Duration.ofMillis(200);
+}
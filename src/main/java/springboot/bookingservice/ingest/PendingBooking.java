@@ -0,0 +1,12 @@
+package springboot.bookingservice.ingest;
+
+import springboot.bookingservice.dto.BookingRequest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A validated booking request and the ID it was acknowledged with, as stored in the write-ahead log.
+ */
+public record PendingBooking(UUID id, LocalDateTime acceptedAt, BookingRequest request) {
+}
@@ -0,0 +1,11 @@
+package springboot.bookingservice.ingest;
+
+/**
+ * Thrown when a record does not fit into the remaining write-ahead log space.
+ */
+public class WalFullException extends RuntimeException {
+
+    public WalFullException(String message) {
+        super(message);
+    }
+}
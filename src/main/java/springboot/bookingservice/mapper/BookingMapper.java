@@ -0,0 +1,53 @@
+package springboot.bookingservice.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.model.Booking;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maps between the booking payloads and the entity. The implementation is generated at compile
+ * time as plain getter and builder calls, so no reflection runs per request, and a property
+ * added to one side but not mapped on the other fails the build.
+ */
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface BookingMapper {
+
+    BookingMapper INSTANCE = Mappers.getMapper(BookingMapper.class);
+
+    /**
+     * A new, unsaved booking: always {@code PENDING}, timestamps left to Hibernate.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", constant = "PENDING")
+    @Mapping(target = "estimatedCompletionTime", ignore = true)
+    @Mapping(target = "actualCompletionTime", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Booking toBooking(BookingRequest request);
+
+    /**
+     * {@code partial} is only set, as {@code true}, when a name is a placeholder.
+     */
+    @Mapping(target = "serviceIds", source = "booking.serviceIds", qualifiedByName = "readOnlyView")
+    @Mapping(target = "vehicleDescription", source = "vehicleDescription")
+    @Mapping(target = "serviceNames", source = "serviceNames")
+    @Mapping(target = "partial", expression = "java(partial ? Boolean.TRUE : null)")
+    BookingResponse toResponse(Booking booking, String vehicleDescription, String serviceNames, boolean partial);
+
+    /**
+     * A view of the entity's collection rather than a copy.
+     */
+    @Named("readOnlyView")
+    default List<UUID> readOnlyView(List<UUID> serviceIds) {
+        return serviceIds == null ? null : Collections.unmodifiableList(serviceIds);
+    }
+}
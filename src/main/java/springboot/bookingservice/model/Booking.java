@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,9 +19,18 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_user_id", columnList = "user_id"),
+        @Index(name = "idx_bookings_status_date", columnList = "status, booking_date"),
+        @Index(name = "idx_bookings_vehicle_date", columnList = "vehicle_id, booking_date"),
+        @Index(name = "idx_bookings_phone_number", columnList = "phone_number"),
+        @Index(name = "idx_bookings_booking_date", columnList = "booking_date"),
+        @Index(name = "idx_bookings_updated_at_id", columnList = "updated_at, id")
+})
 public class Booking {
 
+    static final int SERVICE_ID_BATCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -58,7 +68,13 @@ public class Booking {
     @Column(name = "vehicle_id")
     private UUID vehicleId;
 
+    /**
+     * Loaded in batches: initializing one booking's IDs loads those of up to
+     * {@value #SERVICE_ID_BATCH_SIZE} bookings of the same session at once, so a list costs one
+     * query per batch instead of one per booking.
+     */
     @ElementCollection
+    @BatchSize(size = SERVICE_ID_BATCH_SIZE)
     @CollectionTable(name = "booking_services", joinColumns = @JoinColumn(name = "booking_id"))
     @Column(name = "service_id")
     private List<UUID> serviceIds;
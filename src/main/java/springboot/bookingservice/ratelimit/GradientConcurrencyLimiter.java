@@ -0,0 +1,85 @@
+package springboot.bookingservice.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency.
+ * <p>
+ * The limit is scaled by the gradient between the long-term (baseline) latency and the latest
+ * sample: while latency stays at the baseline the limit grows by a small queue allowance, and
+ * when requests start queueing in the database the latency rises and the limit shrinks. The
+ * in-flight counter is lock-free; limit updates are serialized but cheap.
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double BASELINE_DECAY = 1.0 / 500;
+    private static final double TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double baselineNanos;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Require 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Reserves a slot; the caller must call {@link #release(long)} when it got one.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the request's latency into the limit.
+     */
+    public void release(long latencyNanos) {
+        int concurrent = inFlight.getAndDecrement();
+        update(latencyNanos, concurrent);
+    }
+
+    private synchronized void update(long latencyNanos, int concurrent) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+        if (baselineNanos == 0) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) * BASELINE_DECAY;
+            if (baselineNanos > 2 * latencyNanos) {
+                // Recover quickly once a latency spike is over
+                baselineNanos *= 0.95;
+            }
+        }
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * baselineNanos / latencyNanos));
+        // Only probe upwards while the limit is actually being used
+        double queueAllowance = concurrent * 2 >= current ? Math.sqrt(current) : 0;
+        double target = current * gradient + queueAllowance;
+        limit = Math.max(minLimit, Math.min(maxLimit, current * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
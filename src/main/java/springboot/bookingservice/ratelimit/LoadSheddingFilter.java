@@ -0,0 +1,177 @@
+package springboot.bookingservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+import springboot.bookingservice.exception.ErrorResponse;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects booking API traffic early instead of letting it queue on the connection pool.
+ * <p>
+ * Every request is first charged to its client's {@link TokenBucket} and answered with
+ * {@code 429} when the bucket is empty. Booking creation and status scans additionally pass
+ * an adaptive {@link GradientConcurrencyLimiter} and are answered with {@code 503} when the
+ * endpoint is saturated. Both rejections carry {@code Retry-After}.
+ */
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    static final String BOOKINGS_PATH = "/api/v1/bookings";
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, GradientConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Counter rateLimited;
+
+    public LoadSheddingFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.rateLimited = Counter.builder("booking.requests.rejected")
+                .tag("reason", "rate_limit")
+                .description("Requests rejected because the client exceeded its rate")
+                .register(meterRegistry);
+        Gauge.builder("booking.ratelimit.clients", buckets, Map::size)
+                .description("Clients with a tracked token bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !properties.isEnabled() || !path.startsWith(BOOKINGS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitNanos = bucketFor(clientId(request)).tryAcquire();
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Rate limit exceeded");
+            return;
+        }
+
+        String endpoint = expensiveEndpoint(request);
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        GradientConcurrencyLimiter limiter = limiters.computeIfAbsent(endpoint, this::newLimiter);
+        if (!limiter.tryAcquire()) {
+            meterRegistry.counter("booking.requests.rejected", "reason", "concurrency", "endpoint", endpoint).increment();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    properties.getConcurrency().getRetryAfter().toNanos(), "Service is at capacity");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private TokenBucket bucketFor(String clientId) {
+        TokenBucket bucket = buckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxClients()) {
+            evictIdleClients();
+        }
+        return buckets.computeIfAbsent(clientId,
+                id -> new TokenBucket(properties.getRequestsPerSecond(), properties.getBurst()));
+    }
+
+    /**
+     * Drops buckets that have refilled completely; they carry no state worth keeping.
+     */
+    @Scheduled(fixedDelayString = "${booking.rate-limit.eviction-interval:1m}")
+    public void evictIdleClients() {
+        buckets.values().removeIf(TokenBucket::isIdle);
+    }
+
+    /**
+     * The authenticated principal if there is one, else the client ID set by a trusted proxy,
+     * else the remote address. The header is never taken from the client itself: a client could
+     * send a new value with every request to get a fresh bucket each time.
+     */
+    private String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        String remoteAddress = request.getRemoteAddr();
+        if (properties.getTrustedProxies().contains(remoteAddress)) {
+            String header = request.getHeader(properties.getClientHeader());
+            if (header != null && !header.isBlank()
+                    && (properties.getKnownClients().isEmpty() || properties.getKnownClients().contains(header))) {
+                return "client:" + header;
+            }
+        }
+        return "address:" + remoteAddress;
+    }
+
+    /**
+     * Endpoints guarded by a concurrency limit: booking creation and status scans.
+     */
+    private static String expensiveEndpoint(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.equals(BOOKINGS_PATH) && !path.equals(BOOKINGS_PATH + "/")) {
+            return null;
+        }
+        if (HttpMethod.POST.matches(request.getMethod())) {
+            return "create";
+        }
+        if (HttpMethod.GET.matches(request.getMethod()) && request.getParameter("userId") == null
+                && request.getParameter("status") != null) {
+            return "status_scan";
+        }
+        return null;
+    }
+
+    private GradientConcurrencyLimiter newLimiter(String endpoint) {
+        RateLimitProperties.Concurrency concurrency = properties.getConcurrency();
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+                concurrency.getInitialLimit(), concurrency.getMinLimit(), concurrency.getMaxLimit());
+        Gauge.builder("booking.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("booking.concurrency.in_flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        long retryAfterNanos, String message) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.debug("{} {} rejected with {}", request.getMethod(), request.getRequestURI(), status.value());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(status.value(), status.getReasonPhrase(), message, request.getRequestURI()));
+    }
+}
@@ -0,0 +1,67 @@
+package springboot.bookingservice.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Settings for per-client rate limiting and load shedding on the booking API.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Header identifying the calling client. Clients can set it to anything, so it is only
+     * honoured on requests from {@link #trustedProxies}; other requests are keyed by their
+     * authenticated principal or remote address.
+     */
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * Addresses of proxies that authenticate clients and set {@link #clientHeader}.
+     */
+    private Set<String> trustedProxies = new HashSet<>();
+
+    /**
+     * Client IDs accepted from the trusted proxies. When empty, any value is accepted.
+     */
+    private Set<String> knownClients = new HashSet<>();
+
+    /**
+     * Sustained requests per second allowed for each client.
+     */
+    private double requestsPerSecond = 50;
+
+    /**
+     * Requests a client may send in a burst on top of the sustained rate.
+     */
+    private int burst = 100;
+
+    /**
+     * Upper bound of tracked clients; idle buckets are evicted first.
+     */
+    private int maxClients = 100_000;
+
+    private Concurrency concurrency = new Concurrency();
+
+    @Data
+    public static class Concurrency {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 2;
+
+        private int maxLimit = 200;
+
+        /**
+         * Retry-After sent with 503 responses when an endpoint is at its concurrency limit.
+         */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
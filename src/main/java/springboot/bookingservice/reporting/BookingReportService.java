@@ -0,0 +1,153 @@
+package springboot.bookingservice.reporting;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import springboot.bookingservice.dto.RevenueReportResponse;
+import springboot.bookingservice.sharding.ConsistentHashRing;
+import springboot.bookingservice.sharding.ShardContext;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Revenue reports over {@code totalPrice} by status, payment method and price range.
+ * <p>
+ * The requested date range is split into partitions (per shard when sharding is enabled) that
+ * a number of parallel scans work through. Every partition is read in its own read-only
+ * transaction, so on its own connection and, with replica routing, from a replica, through a
+ * streaming cursor over the {@code booking_date} index. Each scan aggregates into its own
+ * accumulator; the accumulators are merged at the end.
+ */
+@Service
+@EnableConfigurationProperties(ReportingProperties.class)
+public class BookingReportService implements DisposableBean {
+
+    private static final String PARTITION_QUERY = "select status, payment_method, total_price from bookings "
+            + "where booking_date >= ? and booking_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final ReportingProperties properties;
+    private final List<String> shards;
+    private final ExecutorService executor;
+
+    @Autowired
+    public BookingReportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                ReportingProperties properties, ObjectProvider<ConsistentHashRing> shardRing) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        ConsistentHashRing ring = shardRing.getIfAvailable();
+        this.shards = ring == null ? Collections.singletonList(null) : ring.shards();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = ContextExecutorService.wrap(
+                Executors.newFixedThreadPool(Math.max(1, properties.getMaxParallelism()), runnable -> {
+                    Thread thread = new Thread(runnable, "booking-report-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }), ContextSnapshotFactory.builder().build()::captureAll);
+    }
+
+    /**
+     * Revenue of the bookings dated in {@code [from, to)}.
+     *
+     * @param parallelism scans to run at once, {@code null} for the configured default; capped
+     *                    at the configured maximum
+     */
+    public ResponseEntity<RevenueReportResponse> revenue(LocalDate from, LocalDate to, Integer parallelism) {
+        if (!from.isBefore(to) || ChronoUnit.DAYS.between(from, to) > properties.getMaxRangeDays()
+                || parallelism != null && parallelism < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int scans = Math.min(parallelism == null ? properties.getParallelism() : parallelism,
+                properties.getMaxParallelism());
+
+        List<DatePartition> partitions = new ArrayList<>();
+        int perShard = Math.max(1, scans * properties.getPartitionsPerScan() / shards.size());
+        for (String shard : shards) {
+            partitions.addAll(DatePartition.split(shard, from.atStartOfDay(), to.atStartOfDay(), perShard));
+        }
+
+        RevenueAccumulator total = scanAll(partitions, Math.min(scans, partitions.size()));
+
+        return ResponseEntity.ok(total.toResponse()
+                .from(from)
+                .to(to)
+                .partitions(partitions.size())
+                .parallelism(scans)
+                .build());
+    }
+
+    private RevenueAccumulator scanAll(List<DatePartition> partitions, int scans) {
+        Queue<DatePartition> pending = new ConcurrentLinkedQueue<>(partitions);
+        List<Future<RevenueAccumulator>> futures = new ArrayList<>(scans);
+        for (int i = 0; i < scans; i++) {
+            futures.add(executor.submit(() -> {
+                RevenueAccumulator accumulator = new RevenueAccumulator(properties.getPriceBands());
+                for (DatePartition partition = pending.poll(); partition != null; partition = pending.poll()) {
+                    accumulator.merge(scan(partition));
+                }
+                return accumulator;
+            }));
+        }
+        RevenueAccumulator total = new RevenueAccumulator(properties.getPriceBands());
+        try {
+            for (Future<RevenueAccumulator> future : futures) {
+                total.merge(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the report", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Report partition scan failed", e.getCause());
+        }
+        return total;
+    }
+
+    private RevenueAccumulator scan(DatePartition partition) {
+        Supplier<RevenueAccumulator> scan = () -> readOnly.execute(status -> {
+            RevenueAccumulator accumulator = new RevenueAccumulator(properties.getPriceBands());
+            jdbcTemplate.query(PARTITION_QUERY,
+                    (RowCallbackHandler) rs -> accumulator.add(rs.getString(1), rs.getString(2), rs.getBigDecimal(3)),
+                    partition.from(), partition.to());
+            return accumulator;
+        });
+        return partition.shard() == null ? scan.get() : ShardContext.callOn(partition.shard(), scan);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
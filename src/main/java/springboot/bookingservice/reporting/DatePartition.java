@@ -0,0 +1,28 @@
+package springboot.bookingservice.reporting;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bookings dated in {@code [from, to)}, on the given shard or, without sharding, {@code null}.
+ */
+record DatePartition(String shard, LocalDateTime from, LocalDateTime to) {
+
+    /**
+     * Splits {@code [from, to)} into {@code count} adjoining ranges of (nearly) equal length.
+     */
+    static List<DatePartition> split(String shard, LocalDateTime from, LocalDateTime to, int count) {
+        long seconds = Duration.between(from, to).toSeconds();
+        int parts = (int) Math.max(1, Math.min(count, seconds));
+        List<DatePartition> partitions = new ArrayList<>(parts);
+        LocalDateTime start = from;
+        for (int i = 1; i <= parts; i++) {
+            LocalDateTime end = i == parts ? to : from.plusSeconds(seconds * i / parts);
+            partitions.add(new DatePartition(shard, start, end));
+            start = end;
+        }
+        return partitions;
+    }
+}
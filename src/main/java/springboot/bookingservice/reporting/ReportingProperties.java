@@ -0,0 +1,46 @@
+package springboot.bookingservice.reporting;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Settings for the revenue reports.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.reporting")
+public class ReportingProperties {
+
+    /**
+     * Partitions scanned at the same time by a report unless the request asks for fewer or more.
+     * Every scan holds a database connection.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Upper bound for the requested parallelism and size of the shared scan pool; keep it below
+     * the connection pool size.
+     */
+    private int maxParallelism = 8;
+
+    /**
+     * The date range is split into this many partitions per parallel scan, so a busy period
+     * does not leave the other scans idle.
+     */
+    private int partitionsPerScan = 4;
+
+    /**
+     * Rows fetched per round trip by the streaming cursors.
+     */
+    private int fetchSize = 1000;
+
+    private int maxRangeDays = 366;
+
+    /**
+     * Upper bounds of the price ranges; a last, open range collects the rest.
+     */
+    private List<BigDecimal> priceBands = List.of(new BigDecimal("50"), new BigDecimal("100"),
+            new BigDecimal("250"), new BigDecimal("500"), new BigDecimal("1000"));
+}
@@ -0,0 +1,113 @@
+package springboot.bookingservice.reporting;
+
+import springboot.bookingservice.dto.RevenueReportResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Revenue totals of one or more partitions, by status and payment method and by price range.
+ * Not thread-safe: every scan fills its own, and the results are merged afterwards.
+ */
+class RevenueAccumulator {
+
+    private record GroupKey(String status, String paymentMethod) {
+    }
+
+    private static final class Totals {
+
+        private long count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private BigDecimal min;
+        private BigDecimal max;
+
+        void add(BigDecimal price) {
+            count++;
+            sum = sum.add(price);
+            min = min == null || price.compareTo(min) < 0 ? price : min;
+            max = max == null || price.compareTo(max) > 0 ? price : max;
+        }
+
+        void merge(Totals other) {
+            count += other.count;
+            sum = sum.add(other.sum);
+            if (other.count > 0) {
+                min = min == null || other.min.compareTo(min) < 0 ? other.min : min;
+                max = max == null || other.max.compareTo(max) > 0 ? other.max : max;
+            }
+        }
+    }
+
+    private static final Comparator<GroupKey> GROUP_ORDER = Comparator
+            .comparing(GroupKey::status)
+            .thenComparing(GroupKey::paymentMethod, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<BigDecimal> bands;
+    private final Map<GroupKey, Totals> groups = new HashMap<>();
+    private final Totals[] ranges;
+
+    RevenueAccumulator(List<BigDecimal> bands) {
+        this.bands = bands;
+        this.ranges = new Totals[bands.size() + 1];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = new Totals();
+        }
+    }
+
+    void add(String status, String paymentMethod, BigDecimal price) {
+        groups.computeIfAbsent(new GroupKey(status, paymentMethod), key -> new Totals()).add(price);
+        ranges[range(price)].add(price);
+    }
+
+    RevenueAccumulator merge(RevenueAccumulator other) {
+        other.groups.forEach((key, totals) -> groups.computeIfAbsent(key, k -> new Totals()).merge(totals));
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i].merge(other.ranges[i]);
+        }
+        return this;
+    }
+
+    RevenueReportResponse.RevenueReportResponseBuilder toResponse() {
+        Totals total = new Totals();
+        List<RevenueReportResponse.Group> groupRows = new ArrayList<>();
+        groups.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(GROUP_ORDER))
+                .forEach(entry -> {
+                    Totals totals = entry.getValue();
+                    total.merge(totals);
+                    groupRows.add(new RevenueReportResponse.Group(entry.getKey().status(),
+                            entry.getKey().paymentMethod(), totals.count, totals.sum, average(totals),
+                            totals.min, totals.max));
+                });
+
+        List<RevenueReportResponse.PriceRange> rangeRows = new ArrayList<>(ranges.length);
+        for (int i = 0; i < ranges.length; i++) {
+            rangeRows.add(new RevenueReportResponse.PriceRange(i == 0 ? null : bands.get(i - 1),
+                    i == bands.size() ? null : bands.get(i), ranges[i].count, ranges[i].sum));
+        }
+
+        return RevenueReportResponse.builder()
+                .bookings(total.count)
+                .totalPrice(total.sum)
+                .groups(groupRows)
+                .priceRanges(rangeRows);
+    }
+
+    private int range(BigDecimal price) {
+        for (int i = 0; i < bands.size(); i++) {
+            if (price.compareTo(bands.get(i)) < 0) {
+                return i;
+            }
+        }
+        return bands.size();
+    }
+
+    private static BigDecimal average(Totals totals) {
+        return totals.count == 0 ? null : totals.sum.divide(BigDecimal.valueOf(totals.count), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -1,17 +1,53 @@
 package springboot.bookingservice.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import springboot.bookingservice.model.Booking;
 import springboot.bookingservice.model.BookingStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * List queries load entities read-only: they are only mapped to responses, so Hibernate keeps
+ * no dirty-checking snapshot for them.
+ */
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, UUID> {
+public interface BookingRepository extends JpaRepository<Booking, UUID>, JpaSpecificationExecutor<Booking> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Booking> findByUserId(UUID userId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Booking> findByStatus(BookingStatus status);
+
+    @Query("select new springboot.bookingservice.repository.BookingSlot(b.id, b.userId, b.vehicleId, b.status, "
+            + "b.bookingDate, b.estimatedCompletionTime) from Booking b "
+            + "where b.bookingDate >= :from and b.bookingDate < :to and b.status in :statuses")
+    List<BookingSlot> findSlots(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                @Param("statuses") Collection<BookingStatus> statuses);
+
+    @Query("select new springboot.bookingservice.repository.BookingSlot(b.id, b.userId, b.vehicleId, b.status, "
+            + "b.bookingDate, b.estimatedCompletionTime) from Booking b where b.id = :id")
+    Optional<BookingSlot> findSlotById(@Param("id") UUID id);
+
+    /**
+     * Bookings changed after the {@code (updatedAt, id)} position and no later than
+     * {@code horizon}, in that order.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select b from Booking b where b.updatedAt >= :updatedAt and b.updatedAt <= :horizon "
+            + "and (b.updatedAt > :updatedAt or b.id > :id) order by b.updatedAt, b.id")
+    List<Booking> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id,
+                                   @Param("horizon") LocalDateTime horizon, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package springboot.bookingservice.repository;
+
+import springboot.bookingservice.model.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A booking's place in the workshop calendar: when it starts, when it is expected to finish and
+ * whose vehicle it concerns.
+ */
+public record BookingSlot(UUID id, UUID userId, UUID vehicleId, BookingStatus status, LocalDateTime bookingDate,
+                          LocalDateTime estimatedCompletionTime) {
+}
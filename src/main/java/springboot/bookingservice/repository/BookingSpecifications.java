@@ -0,0 +1,97 @@
+package springboot.bookingservice.repository;
+
+import jakarta.persistence.criteria.Predicate;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.model.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Building blocks for dynamic booking search queries. Each returns {@code null} when its
+ * criterion is absent, which {@link Specification#where} and {@code and} ignore.
+ */
+@UtilityClass
+public class BookingSpecifications {
+
+    /**
+     * Characters separating the words of booking notes, for the notes index, its query terms and
+     * {@link #notesContainAll} alike: H2's full-text defaults plus common typographic ones.
+     */
+    public static final String NOTE_WORD_SEPARATORS =
+            " \t\n\r\f+\"*%&/()=?'!,.;:-_#@|^~`{}[]<>$\\\u00a0\u2018\u2019\u201c\u201d\u2013\u2014";
+
+    /**
+     * {@link #NOTE_WORD_SEPARATORS} as a regular expression character class.
+     */
+    public static final String NOTE_WORD_SEPARATOR_CLASS = NOTE_WORD_SEPARATORS.chars()
+            .mapToObj(c -> "\\x{" + Integer.toHexString(c) + "}")
+            .collect(Collectors.joining("", "[", "]"));
+
+    public static Specification<Booking> hasPhoneNumber(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.isBlank()) return null;
+        return (root, query, cb) -> cb.equal(root.get("phoneNumber"), phoneNumber.trim());
+    }
+
+    public static Specification<Booking> hasVehicleId(UUID vehicleId) {
+        if (vehicleId == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("vehicleId"), vehicleId);
+    }
+
+    public static Specification<Booking> bookedFrom(LocalDateTime from) {
+        if (from == null) return null;
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("bookingDate"), from);
+    }
+
+    public static Specification<Booking> bookedBefore(LocalDateTime to) {
+        if (to == null) return null;
+        return (root, query, cb) -> cb.lessThan(root.get("bookingDate"), to);
+    }
+
+    public static Specification<Booking> hasStatusIn(Collection<BookingStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) return null;
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Booking> hasIdIn(Collection<UUID> ids) {
+        if (ids == null) return null;
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    /**
+     * Fallback for note terms too common for the index. Matches whole words only, like
+     * {@code BookingNotesIndex}: each lower-cased term must appear delimited by the start or
+     * end of the notes or by one of the {@link #NOTE_WORD_SEPARATORS}.
+     */
+    public static Specification<Booking> notesContainAll(Collection<String> terms) {
+        if (terms == null || terms.isEmpty()) return null;
+        return (root, query, cb) -> cb.and(terms.stream()
+                .map(term -> cb.isTrue(cb.function("regexp_like", Boolean.class,
+                        cb.lower(root.get("additionalNotes")), cb.literal(wordPattern(term)))))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * Case-insensitive substring match, for queries too short to contain an indexed word.
+     * {@code %} and {@code _} in the text match themselves.
+     */
+    public static Specification<Booking> notesContainText(String text) {
+        if (text == null || text.isBlank()) return null;
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return (root, query, cb) -> cb.like(cb.lower(root.get("additionalNotes")), "%" + escaped + "%", '\\');
+    }
+
+    private static String wordPattern(String term) {
+        return "(^|" + NOTE_WORD_SEPARATOR_CLASS + ")" + Pattern.quote(term.toLowerCase(Locale.ROOT))
+                + "($|" + NOTE_WORD_SEPARATOR_CLASS + ")";
+    }
+}
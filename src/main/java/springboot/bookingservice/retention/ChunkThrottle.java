@@ -0,0 +1,46 @@
+package springboot.bookingservice.retention;
+
+import java.time.Duration;
+
+/**
+ * Sizes delete chunks from the observed latency. A chunk slower than the target halves the next
+ * one and extends the pause after it by the overrun; a faster one grows the next chunk by a
+ * quarter, up to the maximum.
+ */
+class ChunkThrottle {
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetNanos;
+    private final long basePauseNanos;
+
+    private int chunkSize;
+    private long pauseNanos;
+
+    ChunkThrottle(int minChunkSize, int maxChunkSize, Duration latencyTarget, Duration pause) {
+        this.minChunkSize = Math.max(1, minChunkSize);
+        this.maxChunkSize = Math.max(this.minChunkSize, maxChunkSize);
+        this.targetNanos = latencyTarget.toNanos();
+        this.basePauseNanos = pause.toNanos();
+        this.chunkSize = Math.max(this.minChunkSize, this.maxChunkSize / 4);
+        this.pauseNanos = basePauseNanos;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    long pauseNanos() {
+        return pauseNanos;
+    }
+
+    void record(long elapsedNanos) {
+        if (elapsedNanos > targetNanos) {
+            chunkSize = Math.max(minChunkSize, chunkSize / 2);
+            pauseNanos = basePauseNanos + (elapsedNanos - targetNanos);
+        } else {
+            chunkSize = Math.min(maxChunkSize, chunkSize + Math.max(1, chunkSize / 4));
+            pauseNanos = basePauseNanos;
+        }
+    }
+}
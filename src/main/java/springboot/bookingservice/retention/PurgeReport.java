@@ -0,0 +1,13 @@
+package springboot.bookingservice.retention;
+
+import springboot.bookingservice.model.BookingStatus;
+
+import java.time.Duration;
+
+/**
+ * Outcome of purging one status on one shard ({@code null} without sharding). {@code completed}
+ * is {@code false} when the run stopped at its time limit and will resume from its checkpoint.
+ */
+public record PurgeReport(BookingStatus status, String shard, long bookings, long serviceRows, Duration elapsed,
+                          double rowsPerSecond, boolean completed) {
+}
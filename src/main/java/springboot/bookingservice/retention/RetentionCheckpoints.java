@@ -0,0 +1,51 @@
+package springboot.bookingservice.retention;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Where each purge stopped in {@code (updated_at, id)} order, kept in the database it purges and
+ * written in the same transaction as the chunk it follows, so a restarted purge resumes exactly
+ * after the last deleted chunk.
+ */
+class RetentionCheckpoints {
+
+    record Checkpoint(LocalDateTime updatedAt, UUID id, long purged) {
+    }
+
+    private static final String CREATE_TABLE = "create table if not exists retention_checkpoints ("
+            + "policy varchar(64) primary key, last_updated_at timestamp not null, last_id uuid not null, "
+            + "purged bigint not null, checkpointed_at timestamp not null)";
+    private static final String SELECT = "select last_updated_at, last_id, purged from retention_checkpoints "
+            + "where policy = ?";
+    private static final String UPDATE = "update retention_checkpoints set last_updated_at = ?, last_id = ?, "
+            + "purged = ?, checkpointed_at = ? where policy = ?";
+    private static final String INSERT = "insert into retention_checkpoints "
+            + "(last_updated_at, last_id, purged, checkpointed_at, policy) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    RetentionCheckpoints(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void createTable() {
+        jdbcTemplate.execute(CREATE_TABLE);
+    }
+
+    Checkpoint load(String policy) {
+        List<Checkpoint> found = jdbcTemplate.query(SELECT, (rs, row) -> new Checkpoint(
+                rs.getObject(1, LocalDateTime.class), rs.getObject(2, UUID.class), rs.getLong(3)), policy);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    void save(String policy, Checkpoint checkpoint) {
+        Object[] args = {checkpoint.updatedAt(), checkpoint.id(), checkpoint.purged(), LocalDateTime.now(), policy};
+        if (jdbcTemplate.update(UPDATE, args) == 0) {
+            jdbcTemplate.update(INSERT, args);
+        }
+    }
+}
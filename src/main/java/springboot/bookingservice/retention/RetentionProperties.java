@@ -0,0 +1,47 @@
+package springboot.bookingservice.retention;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import springboot.bookingservice.model.BookingStatus;
+
+import java.time.Duration;
+import java.time.Period;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for purging old bookings.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.retention")
+public class RetentionProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * How long bookings in a status are kept after their last change, e.g. {@code ARCHIVED: 7y}.
+     * Statuses without an entry are never purged; only {@link RetentionPurgeJob#PURGEABLE} statuses are accepted.
+     */
+    private Map<BookingStatus, Period> policies = new EnumMap<>(Map.of(BookingStatus.ARCHIVED, Period.ofYears(7)));
+
+    private String cron = "0 30 3 * * *";
+
+    /**
+     * A run stops after this long and resumes from its checkpoint on the next one.
+     */
+    private Duration maxRunTime = Duration.ofMinutes(30);
+
+    private int minChunkSize = 50;
+
+    private int maxChunkSize = 1000;
+
+    /**
+     * Chunks slower than this shrink the next chunk and add their overrun to the pause.
+     */
+    private Duration latencyTarget = Duration.ofMillis(100);
+
+    /**
+     * Pause after every chunk, leaving room for the regular workload.
+     */
+    private Duration pause = Duration.ofMillis(50);
+}
@@ -0,0 +1,292 @@
+package springboot.bookingservice.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.sharding.ShardContext;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Deletes bookings that have been in a status longer than its retention period, together with
+ * their {@code booking_services} rows.
+ * <p>
+ * Bookings are deleted in {@code (updated_at, id)} order in small chunks, one transaction each:
+ * the chunk's bookings are locked and checked again, then their service rows go in one
+ * statement, then the bookings, then the checkpoint.
+ * The {@link ChunkThrottle} sizes the chunks and the pauses between them from the observed
+ * latency. A run stops at {@code max-run-time}; the next one resumes from the checkpoint.
+ * <p>
+ * Scheduled runs are handed to a thread of their own, so they do not hold up the other
+ * scheduled tasks. Each purged booking is published as a deletion {@link BookingChangedEvent}, which
+ * listeners receive once its chunk has committed.
+ * <p>
+ * Only {@link #PURGEABLE} statuses can have a policy. The change feed is read from the bookings
+ * table and has no tombstones, so a purged booking must already have been reported as archived;
+ * archived bookings are also off the calendar.
+ * <p>
+ * Metrics: {@code booking.retention.purged} by table, {@code booking.retention.chunk} latency,
+ * {@code booking.retention.chunk.size} and {@code booking.retention.rate}, the rows per second
+ * of the last run.
+ */
+@Slf4j
+public class RetentionPurgeJob implements DisposableBean {
+
+    private static final String FIRST_CHUNK = "select id, updated_at from bookings "
+            + "where status = ? and updated_at < ? order by updated_at, id limit ?";
+    private static final String NEXT_CHUNK = "select id, updated_at from bookings "
+            + "where status = ? and updated_at < ? and (updated_at > ? or updated_at = ? and id > ?) "
+            + "order by updated_at, id limit ?";
+    // the status and age are checked again in case a booking changed since it was selected
+    private static final String LOCK_BOOKINGS = "select id, user_id from bookings "
+            + "where id in (%s) and status = ? and updated_at < ? for update";
+    private static final String DELETE_SERVICES = "delete from booking_services where booking_id in (%s)";
+    private static final String DELETE_BOOKINGS = "delete from bookings where id in (%s)";
+
+    /**
+     * Statuses that may be purged.
+     */
+    public static final Set<BookingStatus> PURGEABLE = Collections.unmodifiableSet(EnumSet.of(BookingStatus.ARCHIVED));
+
+    private record Key(UUID id, LocalDateTime updatedAt) {
+    }
+
+    private record Owned(UUID id, UUID userId) {
+    }
+
+    private record Chunk(int selected, int bookings, int serviceRows) {
+    }
+
+    private static final RowMapper<Key> KEY_MAPPER =
+            (rs, row) -> new Key(rs.getObject(1, UUID.class), rs.getObject(2, LocalDateTime.class));
+    private static final RowMapper<Owned> OWNED_MAPPER =
+            (rs, row) -> new Owned(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionCheckpoints checkpoints;
+    private final RetentionProperties properties;
+    private final List<String> shards;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter purgedBookings;
+    private final Counter purgedServiceRows;
+    private final Timer chunkTimer;
+    private final AtomicInteger chunkSize = new AtomicInteger();
+    private volatile double lastRate;
+
+    /**
+     * @param shards the shards to purge, empty without sharding
+     * @throws IllegalArgumentException if a policy is set for a status outside {@link #PURGEABLE}
+     */
+    public RetentionPurgeJob(DataSource dataSource, PlatformTransactionManager transactionManager,
+                             RetentionProperties properties, List<String> shards,
+                             ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        for (BookingStatus status : properties.getPolicies().keySet()) {
+            if (!PURGEABLE.contains(status)) {
+                throw new IllegalArgumentException("booking.retention.policies." + status
+                        + " is not supported, only " + PURGEABLE + " bookings can be purged");
+            }
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpoints = new RetentionCheckpoints(jdbcTemplate);
+        this.properties = properties;
+        this.shards = shards.isEmpty() ? Collections.singletonList(null) : List.copyOf(shards);
+        this.eventPublisher = eventPublisher;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "retention-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.purgedBookings = purged(meterRegistry, "bookings");
+        this.purgedServiceRows = purged(meterRegistry, "booking_services");
+        this.chunkTimer = Timer.builder("booking.retention.chunk")
+                .description("Latency of one purge chunk transaction")
+                .register(meterRegistry);
+        Gauge.builder("booking.retention.chunk.size", chunkSize, AtomicInteger::get)
+                .description("Bookings per purge chunk, as sized by the throttle")
+                .register(meterRegistry);
+        Gauge.builder("booking.retention.rate", this, job -> job.lastRate)
+                .description("Rows per second deleted by the last purge run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${booking.retention.cron:0 30 3 * * *}")
+    public void schedule() {
+        executor.execute(() -> {
+            try {
+                purge();
+            } catch (RuntimeException e) {
+                log.error("Retention purge failed", e);
+            }
+        });
+    }
+
+    /**
+     * Runs every retention policy on every shard.
+     *
+     * @return empty if a run is already in progress
+     */
+    public List<PurgeReport> purge() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Retention purge already running, skipping");
+            return List.of();
+        }
+        try {
+            long deadline = System.nanoTime() + properties.getMaxRunTime().toNanos();
+            List<PurgeReport> reports = new ArrayList<>();
+            for (String shard : shards) {
+                onShard(shard, () -> {
+                    checkpoints.createTable();
+                    return null;
+                });
+                for (Map.Entry<BookingStatus, Period> policy : properties.getPolicies().entrySet()) {
+                    reports.add(onShard(shard, () -> purge(policy.getKey(), policy.getValue(), shard, deadline)));
+                }
+            }
+            double seconds = reports.stream().mapToLong(report -> report.elapsed().toNanos()).sum() / 1e9;
+            long rows = reports.stream().mapToLong(report -> report.bookings() + report.serviceRows()).sum();
+            lastRate = seconds > 0 ? rows / seconds : 0;
+            return reports;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private PurgeReport purge(BookingStatus status, Period retention, String shard, long deadline) {
+        String policy = shard == null ? status.name() : status.name() + "@" + shard;
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        ChunkThrottle throttle = new ChunkThrottle(properties.getMinChunkSize(), properties.getMaxChunkSize(),
+                properties.getLatencyTarget(), properties.getPause());
+        long start = System.nanoTime();
+        long bookings = 0;
+        long serviceRows = 0;
+        boolean completed = false;
+        while (true) {
+            int size = throttle.chunkSize();
+            chunkSize.set(size);
+            long chunkStart = System.nanoTime();
+            Chunk chunk = transactionTemplate.execute(tx -> deleteChunk(policy, status, cutoff, size));
+            long elapsed = System.nanoTime() - chunkStart;
+            chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            throttle.record(elapsed);
+            bookings += chunk.bookings();
+            serviceRows += chunk.serviceRows();
+            purgedBookings.increment(chunk.bookings());
+            purgedServiceRows.increment(chunk.serviceRows());
+            if (chunk.selected() < size) {
+                completed = true;
+                break;
+            }
+            if (System.nanoTime() - deadline >= 0 || !pause(throttle.pauseNanos())) {
+                break;
+            }
+        }
+
+        Duration took = Duration.ofNanos(System.nanoTime() - start);
+        double rate = (bookings + serviceRows) / Math.max(took.toNanos() / 1e9, 1e-9);
+        log.info("Retention purge of {} older than {}: {} bookings and {} service rows in {} ms ({} rows/s){}",
+                policy, retention, bookings, serviceRows, took.toMillis(), Math.round(rate),
+                completed ? "" : ", resuming next run");
+        return new PurgeReport(status, shard, bookings, serviceRows, took, rate, completed);
+    }
+
+    private Chunk deleteChunk(String policy, BookingStatus status, LocalDateTime cutoff, int size) {
+        RetentionCheckpoints.Checkpoint checkpoint = checkpoints.load(policy);
+        List<Key> keys = checkpoint == null
+                ? jdbcTemplate.query(FIRST_CHUNK, KEY_MAPPER, status.name(), cutoff, size)
+                : jdbcTemplate.query(NEXT_CHUNK, KEY_MAPPER, status.name(), cutoff, checkpoint.updatedAt(),
+                        checkpoint.updatedAt(), checkpoint.id(), size);
+        if (keys.isEmpty()) {
+            return new Chunk(0, 0, 0);
+        }
+
+        List<Object> lockArgs = new ArrayList<>(keys.size() + 2);
+        keys.forEach(key -> lockArgs.add(key.id()));
+        lockArgs.add(status.name());
+        lockArgs.add(cutoff);
+        List<Owned> owned = jdbcTemplate.query(LOCK_BOOKINGS.formatted(placeholders(keys.size())), OWNED_MAPPER,
+                lockArgs.toArray());
+
+        int serviceRows = 0;
+        int bookings = 0;
+        if (!owned.isEmpty()) {
+            String in = placeholders(owned.size());
+            Object[] ids = owned.stream().map(Owned::id).toArray();
+            serviceRows = jdbcTemplate.update(DELETE_SERVICES.formatted(in), ids);
+            bookings = jdbcTemplate.update(DELETE_BOOKINGS.formatted(in), ids);
+            // delivered to transactional listeners after the chunk commits
+            owned.forEach(booking -> eventPublisher.publishEvent(
+                    BookingChangedEvent.deleted(booking.id(), booking.userId(), status)));
+        }
+
+        Key last = keys.get(keys.size() - 1);
+        long purged = (checkpoint == null ? 0 : checkpoint.purged()) + bookings;
+        checkpoints.save(policy, new RetentionCheckpoints.Checkpoint(last.updatedAt(), last.id(), purged));
+        return new Chunk(keys.size(), bookings, serviceRows);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static <T> T onShard(String shard, Supplier<T> action) {
+        return shard == null ? action.get() : ShardContext.callOn(shard, action);
+    }
+
+    /**
+     * @return {@code false} if interrupted
+     */
+    private static boolean pause(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter purged(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("booking.retention.purged")
+                .tag("table", table)
+                .description("Rows deleted by the retention purge")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,123 @@
+package springboot.bookingservice.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import springboot.bookingservice.repository.BookingSpecifications;
+import springboot.bookingservice.sharding.ConsistentHashRing;
+import springboot.bookingservice.sharding.ShardRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text index over booking notes, so note searches resolve to a set of IDs instead of a
+ * {@code LIKE '%...%'} scan. It is H2's {@code FullText} index, kept current by triggers in the
+ * database itself, so it sees bookings written by every instance and every write path.
+ * <p>
+ * Terms are words of at least two characters, split on
+ * {@link BookingSpecifications#NOTE_WORD_SEPARATORS} like the SQL fallback; a query matches
+ * bookings containing every term. With sharding every shard holds the index of its own bookings.
+ */
+@Slf4j
+@Component
+public class BookingNotesIndex {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Pattern SEPARATORS = Pattern.compile(BookingSpecifications.NOTE_WORD_SEPARATOR_CLASS + "+");
+
+    private static final String INDEXED = "select count(*) from FT.INDEXES where SCHEMA = 'PUBLIC' and \"TABLE\" = 'BOOKINGS'";
+    private static final String SEARCH = "select KEYS from FT_SEARCH_DATA(?, ?, 0) where \"TABLE\" = 'BOOKINGS'";
+
+    private final List<JdbcTemplate> databases;
+
+    @Autowired
+    public BookingNotesIndex(DataSource dataSource, ObjectProvider<ShardRoutingDataSource> shardRouting,
+                             ObjectProvider<ConsistentHashRing> shardRing) {
+        ShardRoutingDataSource routing = shardRouting.getIfAvailable();
+        ConsistentHashRing ring = shardRing.getIfAvailable();
+        this.databases = routing == null || ring == null
+                ? List.of(new JdbcTemplate(dataSource))
+                : ring.shards().stream().map(shard -> new JdbcTemplate(routing.shard(shard))).toList();
+    }
+
+    BookingNotesIndex(List<JdbcTemplate> databases) {
+        this.databases = List.copyOf(databases);
+    }
+
+    /**
+     * Creates the index where it does not exist yet, indexing the notes already stored.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (JdbcTemplate database : databases) {
+            database.execute("create alias if not exists FT_INIT for 'org.h2.fulltext.FullText.init'");
+            database.execute("call FT_INIT()");
+            if (database.queryForObject(INDEXED, Integer.class) > 0) {
+                continue;
+            }
+            database.execute("create alias if not exists FT_SET_WHITESPACE_CHARS "
+                    + "for 'org.h2.fulltext.FullText.setWhitespaceChars'");
+            database.update("call FT_SET_WHITESPACE_CHARS(?)", BookingSpecifications.NOTE_WORD_SEPARATORS);
+            database.execute("call FT_CREATE_INDEX('PUBLIC', 'BOOKINGS', 'ADDITIONAL_NOTES')");
+            log.info("Created the booking notes full-text index");
+        }
+    }
+
+    /**
+     * Returns the IDs of bookings whose notes contain every term of the query, or {@code null}
+     * when the query has no indexable terms, matches more than {@code limit} bookings or the
+     * index is unavailable, in which case the caller filters in the database instead.
+     */
+    public Set<UUID> search(String query, int limit) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        String text = String.join(" ", terms);
+        Set<UUID> ids = new HashSet<>();
+        try {
+            for (JdbcTemplate database : databases) {
+                ids.addAll(database.query(SEARCH, (rs, row) -> key(rs.getArray(1)), text, limit + 1));
+                if (ids.size() > limit) {
+                    return null;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Notes index unavailable, searching the notes directly: {}", e.getMessage());
+            return null;
+        }
+        return ids;
+    }
+
+    private static UUID key(Array keys) throws SQLException {
+        return UUID.fromString(((Object[]) keys.getArray())[0].toString());
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,17 @@
+package springboot.bookingservice.search;
+
+import springboot.bookingservice.model.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters of a booking search; {@code null} or empty values are ignored.
+ *
+ * @param from inclusive lower bound on the booking date
+ * @param to   exclusive upper bound on the booking date
+ */
+public record BookingSearchCriteria(String phoneNumber, UUID vehicleId, LocalDateTime from, LocalDateTime to,
+                                    List<BookingStatus> statuses, String notes) {
+}
@@ -0,0 +1,122 @@
+package springboot.bookingservice.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.dto.SearchBookingResponse;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.repository.BookingRepository;
+import springboot.bookingservice.service.BookingEnricher;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static springboot.bookingservice.repository.BookingSpecifications.bookedBefore;
+import static springboot.bookingservice.repository.BookingSpecifications.bookedFrom;
+import static springboot.bookingservice.repository.BookingSpecifications.hasIdIn;
+import static springboot.bookingservice.repository.BookingSpecifications.hasPhoneNumber;
+import static springboot.bookingservice.repository.BookingSpecifications.hasStatusIn;
+import static springboot.bookingservice.repository.BookingSpecifications.hasVehicleId;
+import static springboot.bookingservice.repository.BookingSpecifications.notesContainAll;
+import static springboot.bookingservice.repository.BookingSpecifications.notesContainText;
+
+/**
+ * Paged booking search combining any of phone number, vehicle, date range, statuses and note
+ * terms. Structured filters become one indexed query; note terms are resolved through the
+ * {@link BookingNotesIndex} first.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(SearchProperties.class)
+public class BookingSearchService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingNotesIndex notesIndex;
+    private final BookingEnricher bookingEnricher;
+    private final SearchProperties properties;
+    private final Timer searchTimer;
+
+    @Autowired
+    public BookingSearchService(BookingRepository bookingRepository, BookingNotesIndex notesIndex,
+                                BookingEnricher bookingEnricher, SearchProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.notesIndex = notesIndex;
+        this.bookingEnricher = bookingEnricher;
+        this.properties = properties;
+        this.searchTimer = Timer.builder("booking.search")
+                .description("Latency of multi-criteria booking searches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .serviceLevelObjectives(properties.getLatencyTarget())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns one page of matching bookings, newest booking date first.
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<SearchBookingResponse> search(BookingSearchCriteria criteria, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = size == null ? properties.getDefaultPageSize() : Math.min(size, properties.getMaxPageSize());
+        if (pageNumber < 0 || pageSize < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        long start = System.nanoTime();
+        Page<Booking> result = bookingRepository.findAll(toSpecification(criteria),
+                PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc("bookingDate"), Sort.Order.asc("id"))));
+        List<BookingResponse> dtos = result.getContent().stream()
+                .map(bookingEnricher::enrichAndMap)
+                .toList();
+        long elapsed = System.nanoTime() - start;
+
+        searchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        if (elapsed > properties.getLatencyTarget().toNanos()) {
+            log.warn("Booking search took {} ms (target {} ms): {}", elapsed / 1_000_000,
+                    properties.getLatencyTarget().toMillis(), criteria);
+        }
+
+        return ResponseEntity.ok(SearchBookingResponse.builder()
+                .bookings(dtos)
+                .page(result.getNumber())
+                .size(result.getSize())
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .build());
+    }
+
+    Specification<Booking> toSpecification(BookingSearchCriteria criteria) {
+        Specification<Booking> spec = Specification.where(hasPhoneNumber(criteria.phoneNumber()))
+                .and(hasVehicleId(criteria.vehicleId()))
+                .and(bookedFrom(criteria.from()))
+                .and(bookedBefore(criteria.to()))
+                .and(hasStatusIn(criteria.statuses()));
+
+        String notes = criteria.notes();
+        if (notes == null || notes.isBlank()) {
+            return spec;
+        }
+        Set<UUID> ids = notesIndex.search(notes, properties.getMaxIndexMatches());
+        if (ids != null) {
+            return spec.and(hasIdIn(ids));
+        }
+        Set<String> terms = BookingNotesIndex.tokenize(notes);
+        if (terms.isEmpty()) {
+            // nothing the index could match: fall back to a plain substring search
+            return spec.and(notesContainText(notes.trim()));
+        }
+        return spec.and(notesContainAll(terms));
+    }
+}
@@ -0,0 +1,29 @@
+package springboot.bookingservice.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the multi-criteria booking search.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.search")
+public class SearchProperties {
+
+    private int defaultPageSize = 20;
+
+    private int maxPageSize = 100;
+
+    /**
+     * Upper bound on bookings matched through the notes index before the search falls back to
+     * a LIKE filter; keeps the generated IN list short.
+     */
+    private int maxIndexMatches = 1000;
+
+    /**
+     * Searches slower than this are logged with their criteria.
+     */
+    private Duration latencyTarget = Duration.ofMillis(200);
+}
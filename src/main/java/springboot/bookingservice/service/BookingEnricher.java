@@ -0,0 +1,153 @@
+package springboot.bookingservice.service;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.enrichment.EnrichmentProperties;
+import springboot.bookingservice.enrichment.LocalServiceLookup;
+import springboot.bookingservice.enrichment.LocalVehicleLookup;
+import springboot.bookingservice.enrichment.ServiceLookup;
+import springboot.bookingservice.enrichment.UpstreamGuard;
+import springboot.bookingservice.enrichment.UpstreamUnavailableException;
+import springboot.bookingservice.enrichment.VehicleLookup;
+import springboot.bookingservice.mapper.BookingMapper;
+import springboot.bookingservice.model.Booking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Maps bookings to responses enriched with vehicle and service names, either all of them or
+ * only the requested {@link Expansion}s. Each lookup goes through
+ * its upstream's guard and is observed as a {@code booking.enrichment} span. When an upstream
+ * is unavailable and partial responses are allowed, the booking gets a placeholder name and is
+ * flagged {@code partial}.
+ */
+@Component
+public class BookingEnricher {
+
+    static final String VEHICLE_UNAVAILABLE = "Vehicle details unavailable";
+    static final String SERVICES_UNAVAILABLE = "Service details unavailable";
+
+    private final ObservationRegistry observationRegistry;
+    private final VehicleLookup vehicleLookup;
+    private final ServiceLookup serviceLookup;
+    private final UpstreamGuard vehicleUpstream;
+    private final UpstreamGuard servicesUpstream;
+    private final boolean partialResponses;
+
+    public BookingEnricher() {
+        this(ObservationRegistry.NOOP, new LocalVehicleLookup(), new LocalServiceLookup(),
+                UpstreamGuard.NONE, UpstreamGuard.NONE, new EnrichmentProperties());
+    }
+
+    @Autowired
+    public BookingEnricher(ObservationRegistry observationRegistry, VehicleLookup vehicleLookup,
+                           ServiceLookup serviceLookup, @Qualifier("vehicleUpstream") UpstreamGuard vehicleUpstream,
+                           @Qualifier("servicesUpstream") UpstreamGuard servicesUpstream,
+                           EnrichmentProperties properties) {
+        this.observationRegistry = observationRegistry;
+        this.vehicleLookup = vehicleLookup;
+        this.serviceLookup = serviceLookup;
+        this.vehicleUpstream = vehicleUpstream;
+        this.servicesUpstream = servicesUpstream;
+        this.partialResponses = properties.isPartialResponses();
+    }
+
+    /**
+     * Orchestrates the mapping and fetching of external data.
+     */
+    public BookingResponse enrichAndMap(Booking booking) {
+        // load the lazy collection here: a hedged lookup runs on another thread, outside the session
+        Hibernate.initialize(booking.getServiceIds());
+
+        String vehicleName = lookup("vehicle", vehicleUpstream,
+                () -> vehicleLookup.vehicleName(booking.getVehicleId()));
+
+        String serviceNames = lookup("services", servicesUpstream,
+                () -> serviceLookup.serviceNames(booking.getServiceIds()));
+
+        return toResponse(booking, true, vehicleName, true, serviceNames);
+    }
+
+    /**
+     * Maps a list of bookings, running only the requested lookups and each of them once per
+     * distinct vehicle or distinct set of services. Fields not requested are left {@code null}.
+     */
+    public List<BookingResponse> enrichAndMap(List<Booking> bookings, Set<Expansion> expand) {
+        boolean vehicles = expand.contains(Expansion.VEHICLE);
+        boolean services = expand.contains(Expansion.SERVICES);
+        Map<UUID, String> vehicleNames = new HashMap<>();
+        Map<List<UUID>, String> serviceNames = new HashMap<>();
+
+        List<BookingResponse> responses = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            // the response carries the service IDs whether or not their names were asked for;
+            // the first row loads those of the whole batch in one query
+            Hibernate.initialize(booking.getServiceIds());
+            String vehicleName = null;
+            if (vehicles) {
+                UUID vehicleId = booking.getVehicleId();
+                if (vehicleNames.containsKey(vehicleId)) {
+                    vehicleName = vehicleNames.get(vehicleId);
+                } else {
+                    vehicleName = lookup("vehicle", vehicleUpstream, () -> vehicleLookup.vehicleName(vehicleId));
+                    vehicleNames.put(vehicleId, vehicleName);
+                }
+            }
+            String serviceName = null;
+            if (services) {
+                List<UUID> serviceIds = booking.getServiceIds();
+                // the entity's bag compares by identity, so key by a plain copy
+                List<UUID> key = serviceIds == null ? null : new ArrayList<>(serviceIds);
+                if (serviceNames.containsKey(key)) {
+                    serviceName = serviceNames.get(key);
+                } else {
+                    serviceName = lookup("services", servicesUpstream, () -> serviceLookup.serviceNames(key));
+                    serviceNames.put(key, serviceName);
+                }
+            }
+            responses.add(toResponse(booking, vehicles, vehicleName, services, serviceName));
+        }
+        return responses;
+    }
+
+    /**
+     * A requested name that is {@code null} came from an unavailable upstream and is replaced by
+     * a placeholder.
+     */
+    private static BookingResponse toResponse(Booking booking, boolean vehicleRequested, String vehicleName,
+                                              boolean servicesRequested, String serviceNames) {
+        boolean partial = vehicleRequested && vehicleName == null || servicesRequested && serviceNames == null;
+        return BookingMapper.INSTANCE.toResponse(booking,
+                vehicleRequested && vehicleName == null ? VEHICLE_UNAVAILABLE : vehicleName,
+                servicesRequested && serviceNames == null ? SERVICES_UNAVAILABLE : serviceNames,
+                partial);
+    }
+
+    /**
+     * Returns {@code null} if the upstream is unavailable and partial responses are allowed.
+     */
+    private String lookup(String name, UpstreamGuard upstream, Supplier<String> lookup) {
+        try {
+            return Observation.createNotStarted("booking.enrichment", observationRegistry)
+                    .contextualName("booking-enrichment " + name)
+                    .lowCardinalityKeyValue("lookup", name)
+                    .observe(() -> upstream.call(lookup));
+        } catch (UpstreamUnavailableException e) {
+            if (!partialResponses) {
+                throw e;
+            }
+            return null;
+        }
+    }
+}
@@ -1,63 +1,72 @@
 package springboot.bookingservice.service;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import springboot.bookingservice.datasource.DataSourceRoutingContext;
+import springboot.bookingservice.datasource.ReadYourWritesTracker;
 import springboot.bookingservice.dto.BookingRequest;
 import springboot.bookingservice.dto.BookingResponse;
 import springboot.bookingservice.dto.GetBookingResponse;
-import springboot.bookingservice.mapper.DtoMapper;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.mapper.BookingMapper;
 import springboot.bookingservice.model.Booking;
 import springboot.bookingservice.model.BookingStatus;
 import springboot.bookingservice.repository.BookingRepository;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class BookingService {
 
     private final BookingRepository bookingRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingEnricher bookingEnricher;
 
     @Autowired
-    public BookingService(BookingRepository bookingRepository) {
+    public BookingService(BookingRepository bookingRepository, ReadYourWritesTracker readYourWritesTracker,
+                          ApplicationEventPublisher eventPublisher, BookingEnricher bookingEnricher) {
         this.bookingRepository = bookingRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.eventPublisher = eventPublisher;
+        this.bookingEnricher = bookingEnricher;
     }
 
     /**
      * Create a new booking.
      */
+    @Observed(name = "booking.service", contextualName = "booking-service create")
     @Transactional
     public void createBooking(BookingRequest request) {
 
-        BookingStatus statusToSave = BookingStatus.PENDING;
-
-        Booking booking = Booking.builder()
-                .userId(request.getUserId())
-                .bookingDate(request.getBookingDate())
-                .status(statusToSave)
-                .additionalNotes(request.getAdditionalNotes())
-                .totalPrice(request.getTotalPrice())
-                .vehicleId(request.getVehicleId())
-                .serviceIds(request.getServiceIds())
-                .paymentMethod(request.getPaymentMethod())
-                .phoneNumber(request.getPhoneNumber())
-                .build();
+        Booking booking = BookingMapper.INSTANCE.toBooking(request);
+        BookingStatus statusToSave = booking.getStatus();
 
         bookingRepository.save(booking);
+        readYourWritesTracker.recordWrite(booking.getUserId());
+        eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), booking.getUserId(), null, statusToSave));
         log.info("Booking created with ID: {}", booking.getId());
     }
 
     /**
-     * Get bookings by User ID (Enriched with names).
+     * Get bookings by User ID, enriched with the requested names.
+     * Served by a replica unless the user wrote a booking within the read-your-writes window.
      */
-    public ResponseEntity<GetBookingResponse> getBookingsByUser(UUID userId) {
-        List<Booking> entities = bookingRepository.findByUserId(userId);
+    @Observed(name = "booking.service", contextualName = "booking-service get-by-user")
+    @Transactional(readOnly = true)
+    public ResponseEntity<GetBookingResponse> getBookingsByUser(UUID userId, Set<Expansion> expand) {
+        List<Booking> entities = readYourWritesTracker.requiresPrimary(userId)
+                ? DataSourceRoutingContext.onPrimary(() -> bookingRepository.findByUserId(userId))
+                : bookingRepository.findByUserId(userId);
 
         if (entities == null || entities.isEmpty()) {
             return ResponseEntity.ok(GetBookingResponse.builder()
@@ -65,17 +74,17 @@ public class BookingService {
                     .build());
         }
 
-        List<BookingResponse> dtos = entities.stream()
-                .map(this::enrichAndMap)
-                .collect(Collectors.toList());
+        List<BookingResponse> dtos = bookingEnricher.enrichAndMap(entities, expand);
 
-        return ResponseEntity.ok(GetBookingResponse.builder().bookings(dtos).build());
+        return ResponseEntity.ok(toResponse(dtos));
     }
 
     /**
-     * Get bookings by Status (Enriched with names).
+     * Get bookings by Status, enriched with the requested names.
      */
-    public ResponseEntity<GetBookingResponse> getBookingsByStatus(String status) {
+    @Observed(name = "booking.service", contextualName = "booking-service get-by-status")
+    @Transactional(readOnly = true)
+    public ResponseEntity<GetBookingResponse> getBookingsByStatus(String status, Set<Expansion> expand) {
         BookingStatus statusEnum;
         try {
             statusEnum = BookingStatus.valueOf(status.toUpperCase());
@@ -86,48 +95,39 @@ public class BookingService {
 
         List<Booking> bookings = bookingRepository.findByStatus(statusEnum);
 
-        List<BookingResponse> dtos = bookings.stream()
-                .map(this::enrichAndMap)
-                .collect(Collectors.toList());
+        List<BookingResponse> dtos = bookingEnricher.enrichAndMap(bookings, expand);
 
-        return ResponseEntity.ok(new GetBookingResponse(dtos));
+        return ResponseEntity.ok(toResponse(dtos));
     }
 
+    @Observed(name = "booking.service", contextualName = "booking-service cancel")
     @Transactional
     public void cancelBooking(UUID bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(bookingId, booking.getUserId(), previousStatus, BookingStatus.CANCELLED));
     }
 
+    @Observed(name = "booking.service", contextualName = "booking-service archive")
     @Transactional
     public void archiveBooking(UUID bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
         // Assuming ARCHIVED exists in your Enum, otherwise use boolean flag
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(BookingStatus.ARCHIVED);
         bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(bookingId, booking.getUserId(), previousStatus, BookingStatus.ARCHIVED));
     }
 
-    /**
-     * Orchestrates the mapping and fetching of external data.
-     */
-    private BookingResponse enrichAndMap(Booking booking) {
-        String vehicleName = getVehicleNameFromExternalService(booking.getVehicleId());
-
-        String serviceNames = getServiceNamesFromExternalService(booking.getServiceIds());
-
-        return DtoMapper.mapToResponse(booking, vehicleName, serviceNames);
-    }
-
-    private String getVehicleNameFromExternalService(UUID vehicleId) {
-        if (vehicleId == null) return "Unknown Vehicle";
-        return "Vehicle " + vehicleId.toString().substring(0, 5) + "...";
-    }
-
-    private String getServiceNamesFromExternalService(List<UUID> serviceIds) {
-        if (serviceIds == null || serviceIds.isEmpty()) return "No Services";
-        return serviceIds.size() + " Service(s) Selected";
+    private static GetBookingResponse toResponse(List<BookingResponse> dtos) {
+        boolean partial = dtos.stream().anyMatch(dto -> Boolean.TRUE.equals(dto.partial()));
+        return GetBookingResponse.builder()
+                .bookings(dtos)
+                .partial(partial ? Boolean.TRUE : null)
+                .build();
     }
-}
\ No newline at end of file
+}
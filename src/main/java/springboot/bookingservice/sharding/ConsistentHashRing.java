@@ -0,0 +1,63 @@
+package springboot.bookingservice.sharding;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Consistent hash ring mapping user IDs to shard names.
+ * <p>
+ * Each shard is placed on the ring at several virtual points, so adding a shard only moves
+ * roughly {@code 1/N} of the keys and the load stays even. Positions are derived from MD5 and
+ * are therefore stable across JVMs and releases.
+ */
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> shards;
+
+    public ConsistentHashRing(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        this.shards = List.copyOf(shards);
+        for (String shard : this.shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash((shard + "#" + i).getBytes(StandardCharsets.UTF_8)), shard);
+            }
+        }
+    }
+
+    public String shardFor(UUID key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Shard key must not be null");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(key.getMostSignificantBits())
+                .putLong(key.getLeastSignificantBits());
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(buffer.array()));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    private static long hash(byte[] input) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(input);
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package springboot.bookingservice.sharding;
+
+/**
+ * Outcome of a resharding copy-and-verify run.
+ *
+ * @param scanned    bookings read from the source shards
+ * @param moved      bookings whose owner changes under the target ring
+ * @param mismatched moved bookings that still differ from their copy after the last round
+ * @param rounds     verification rounds performed
+ */
+public record ReshardingReport(long scanned, long moved, long mismatched, int rounds) {
+
+    public boolean verified() {
+        return mismatched == 0;
+    }
+}
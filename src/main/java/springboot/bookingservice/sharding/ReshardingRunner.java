@@ -0,0 +1,48 @@
+package springboot.bookingservice.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command-line entry point for the resharding tool.
+ * <p>
+ * {@code --reshard[=shard-a,shard-b,...]} copies and verifies bookings for the target ring
+ * (all configured shards by default); {@code --reshard-purge} removes moved bookings after the
+ * ring has been switched. Combine with {@code --spring.main.web-application-type=none} to run
+ * it as a one-off job.
+ */
+@Slf4j
+public class ReshardingRunner implements ApplicationRunner {
+
+    private final ReshardingTool tool;
+    private final ShardingProperties properties;
+
+    public ReshardingRunner(ReshardingTool tool, ShardingProperties properties) {
+        this.tool = tool;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("reshard")) {
+            List<String> values = args.getOptionValues("reshard");
+            List<String> target = values.isEmpty() || values.get(0).isBlank()
+                    ? properties.getShards().stream().map(ShardingProperties.Shard::getName).toList()
+                    : Arrays.stream(values.get(0).split(",")).map(String::trim).toList();
+            ReshardingReport report = tool.copyAndVerify(target);
+            if (report.verified()) {
+                log.info("Resharding to {} verified: {} of {} bookings copied", target, report.moved(), report.scanned());
+            } else {
+                log.warn("Resharding to {} incomplete: {} of {} moved bookings still differ, rerun before switching",
+                        target, report.mismatched(), report.moved());
+            }
+        }
+        if (args.containsOption("reshard-purge")) {
+            log.info("Purged {} moved bookings", tool.purgeMoved());
+        }
+    }
+}
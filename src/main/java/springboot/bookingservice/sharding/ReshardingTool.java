@@ -0,0 +1,188 @@
+package springboot.bookingservice.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Moves bookings between shards when the ring changes, while the application keeps serving.
+ * <p>
+ * {@link #copyAndVerify} copies every booking whose owner changes to its new shard and then
+ * compares source and copy, re-copying rows that were modified in the meantime. Sources are left
+ * untouched, so the old ring stays authoritative until the operator switches
+ * {@code booking.sharding.ring}; {@link #purgeMoved} then removes the now foreign rows.
+ */
+@Slf4j
+public class ReshardingTool {
+
+    private static final String BOOKING_COLUMNS_QUERY = "select * from bookings where id in (%s)";
+    private static final String SERVICES_QUERY =
+            "select booking_id, service_id from booking_services where booking_id in (%s) order by booking_id, service_id";
+
+    private final ShardRoutingDataSource routingDataSource;
+    private final ConsistentHashRing currentRing;
+    private final ShardingProperties properties;
+
+    public ReshardingTool(ShardRoutingDataSource routingDataSource, ConsistentHashRing currentRing,
+                          ShardingProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.currentRing = currentRing;
+        this.properties = properties;
+    }
+
+    public ReshardingReport copyAndVerify(List<String> targetShards) {
+        ConsistentHashRing target = new ConsistentHashRing(targetShards, properties.getVirtualNodes());
+        long scanned = 0;
+        long moved = 0;
+        long mismatched = 0;
+        int rounds = 0;
+        for (String source : currentRing.shards()) {
+            Map<String, List<UUID>> movedByTarget = new LinkedHashMap<>();
+            List<Map<String, Object>> keys = jdbc(source).queryForList("select id, user_id from bookings");
+            scanned += keys.size();
+            for (Map<String, Object> key : keys) {
+                String owner = target.shardFor((UUID) key.get("USER_ID"));
+                if (!owner.equals(source)) {
+                    movedByTarget.computeIfAbsent(owner, k -> new ArrayList<>()).add((UUID) key.get("ID"));
+                }
+            }
+            for (Map.Entry<String, List<UUID>> entry : movedByTarget.entrySet()) {
+                List<UUID> pending = entry.getValue();
+                moved += pending.size();
+                int round = 0;
+                while (!pending.isEmpty() && round < properties.getReshardVerifyRounds()) {
+                    copy(source, entry.getKey(), pending);
+                    pending = differing(source, entry.getKey(), pending);
+                    round++;
+                }
+                rounds = Math.max(rounds, round);
+                mismatched += pending.size();
+                log.info("Resharding {} -> {}: {} bookings copied, {} still differ",
+                        source, entry.getKey(), entry.getValue().size(), pending.size());
+            }
+        }
+        return new ReshardingReport(scanned, moved, mismatched, rounds);
+    }
+
+    /**
+     * Deletes bookings from shards that no longer own them and whose copy exists on the owner.
+     *
+     * @return number of bookings removed
+     */
+    public long purgeMoved() {
+        long purged = 0;
+        for (String shard : currentRing.shards()) {
+            Map<String, List<UUID>> foreignByOwner = new LinkedHashMap<>();
+            for (Map<String, Object> key : jdbc(shard).queryForList("select id, user_id from bookings")) {
+                String owner = currentRing.shardFor((UUID) key.get("USER_ID"));
+                if (!owner.equals(shard)) {
+                    foreignByOwner.computeIfAbsent(owner, k -> new ArrayList<>()).add((UUID) key.get("ID"));
+                }
+            }
+            List<UUID> foreign = new ArrayList<>();
+            foreignByOwner.forEach((owner, ids) -> {
+                List<UUID> notCopied = differing(shard, owner, ids);
+                ids.stream().filter(id -> !notCopied.contains(id)).forEach(foreign::add);
+            });
+            for (List<UUID> batch : batches(foreign)) {
+                inTransaction(shard, jdbc -> {
+                    String in = placeholders(batch.size());
+                    jdbc.update("delete from booking_services where booking_id in (" + in + ")", batch.toArray());
+                    jdbc.update("delete from bookings where id in (" + in + ")", batch.toArray());
+                });
+            }
+            purged += foreign.size();
+            log.info("Purged {} moved bookings from shard {}", foreign.size(), shard);
+        }
+        return purged;
+    }
+
+    private void copy(String source, String target, List<UUID> ids) {
+        for (List<UUID> batch : batches(ids)) {
+            List<Map<String, Object>> bookings = select(source, BOOKING_COLUMNS_QUERY, batch);
+            List<Map<String, Object>> services = select(source, SERVICES_QUERY, batch);
+            inTransaction(target, jdbc -> {
+                String in = placeholders(batch.size());
+                jdbc.update("delete from booking_services where booking_id in (" + in + ")", batch.toArray());
+                jdbc.update("delete from bookings where id in (" + in + ")", batch.toArray());
+                for (Map<String, Object> row : bookings) {
+                    jdbc.update("insert into bookings (" + String.join(", ", row.keySet()) + ") values ("
+                            + placeholders(row.size()) + ")", row.values().toArray());
+                }
+                jdbc.batchUpdate("insert into booking_services (booking_id, service_id) values (?, ?)",
+                        services.stream().map(row -> new Object[]{row.get("BOOKING_ID"), row.get("SERVICE_ID")}).toList());
+            });
+        }
+    }
+
+    private List<UUID> differing(String source, String target, List<UUID> ids) {
+        List<UUID> differing = new ArrayList<>();
+        for (List<UUID> batch : batches(ids)) {
+            Map<Object, Object> sourceRows = snapshot(source, batch);
+            Map<Object, Object> targetRows = snapshot(target, batch);
+            for (UUID id : batch) {
+                if (!Objects.equals(sourceRows.get(id), targetRows.get(id))) {
+                    differing.add(id);
+                }
+            }
+        }
+        return differing;
+    }
+
+    private Map<Object, Object> snapshot(String shard, List<UUID> ids) {
+        Map<Object, Object> rows = new HashMap<>();
+        for (Map<String, Object> row : select(shard, BOOKING_COLUMNS_QUERY, ids)) {
+            rows.put(row.get("ID"), new ArrayList<>(List.of(row)));
+        }
+        for (Map<String, Object> service : select(shard, SERVICES_QUERY, ids)) {
+            @SuppressWarnings("unchecked")
+            List<Object> row = (List<Object>) rows.get(service.get("BOOKING_ID"));
+            if (row != null) {
+                row.add(service.get("SERVICE_ID"));
+            }
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> select(String shard, String query, List<UUID> ids) {
+        return jdbc(shard).queryForList(String.format(query, placeholders(ids.size())), ids.toArray());
+    }
+
+    private void inTransaction(String shard, Consumer<JdbcTemplate> work) {
+        DataSource dataSource = routingDataSource.shard(shard);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+                .executeWithoutResult(status -> work.accept(new JdbcTemplate(dataSource)));
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(routingDataSource.shard(shard));
+    }
+
+    private List<List<UUID>> batches(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int size = Math.max(1, properties.getReshardBatchSize());
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += size) {
+            batches.add(ids.subList(i, Math.min(ids.size(), i + size)));
+        }
+        return batches;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
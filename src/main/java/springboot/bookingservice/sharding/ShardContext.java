@@ -0,0 +1,64 @@
+package springboot.bookingservice.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound shard selection consulted by {@link ShardRoutingDataSource}.
+ * <p>
+ * Inside a transaction the shard stays bound until completion, because Hibernate may only
+ * issue its statements at flush time, after the repository call that chose the shard returned.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the action against the given shard outside of any caller transaction.
+     */
+    public static <T> T callOn(String shard, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Binds the current transaction to the shard.
+     *
+     * @throws IllegalStateException if the transaction already touched another shard
+     */
+    public static void bindToTransaction(String shard) {
+        String bound = CURRENT.get();
+        if (bound != null) {
+            if (!bound.equals(shard)) {
+                throw new IllegalStateException(
+                        "Transaction is bound to shard '" + bound + "' and cannot access shard '" + shard + "'");
+            }
+            return;
+        }
+        CURRENT.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                CURRENT.remove();
+            }
+        });
+    }
+}
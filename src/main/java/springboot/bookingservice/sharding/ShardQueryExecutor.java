@@ -0,0 +1,65 @@
+package springboot.bookingservice.sharding;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs one task per shard in parallel for scatter-gather queries.
+ */
+public class ShardQueryExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public ShardQueryExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        // Carry the caller's observation (trace) context over to the shard threads
+        this.executor = ContextExecutorService.wrap(Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), ContextSnapshotFactory.builder().build()::captureAll);
+    }
+
+    /**
+     * Runs the task against every shard and returns the results in shard order.
+     */
+    public <T> Map<String, T> onEachShard(Collection<String> shards, Function<String, T> task) {
+        Map<String, Future<T>> futures = new LinkedHashMap<>();
+        for (String shard : shards) {
+            futures.put(shard, executor.submit(() -> task.apply(shard)));
+        }
+        Map<String, T> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Future<T>> entry : futures.entrySet()) {
+                results.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
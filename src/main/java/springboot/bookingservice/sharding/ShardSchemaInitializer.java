@@ -0,0 +1,61 @@
+package springboot.bookingservice.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Creates the booking tables on shards that do not have them yet.
+ * <p>
+ * Hibernate's own {@code ddl-auto} only sees the default shard, so new shards are
+ * initialized here from the entity mappings before the application starts serving.
+ */
+@Slf4j
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ShardRoutingDataSource routingDataSource;
+    private final ShardingProperties properties;
+
+    public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, ShardRoutingDataSource routingDataSource,
+                                  ShardingProperties properties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (hasBookingsTable(routingDataSource.shard(shard.getName()))) {
+                continue;
+            }
+            log.info("Creating booking schema on shard {}", shard.getName());
+            ShardContext.callOn(shard.getName(), () -> {
+                sessionFactory.getSchemaManager().exportMappedObjects(false);
+                return null;
+            });
+        }
+    }
+
+    private static boolean hasBookingsTable(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(null, null, "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                if ("bookings".equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not inspect shard schema", e);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package springboot.bookingservice.sharding;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.Hibernate;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import springboot.bookingservice.model.Booking;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Routes {@link springboot.bookingservice.repository.BookingRepository} calls to shards.
+ * <p>
+ * Calls carrying a user ID (a {@link Booking} argument or a {@code ...ByUserId} finder) run on
+ * the owning shard and, inside a transaction, bind that transaction to it. Everything else is
+ * scattered to all shards in parallel, each in its own transaction, and the results are merged:
+ * booking lists are merge-sorted by booking date and ID, counts are summed and ID lookups return
+ * the first hit. Scattered calls are therefore never part of the caller's transaction.
+ * <p>
+ * A {@link Page} or {@link Slice} is gathered by asking every shard for the first
+ * {@code offset + size} rows in the requested order, merging those runs by the same order and
+ * cutting the requested page out of the result; totals are summed. Deep pages therefore read
+ * more rows per shard than shallow ones.
+ */
+class ShardedRepositoryInterceptor implements MethodInterceptor {
+
+    private static final Comparator<Booking> BOOKING_ORDER = Comparator
+            .comparing(Booking::getBookingDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Booking::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ConsistentHashRing ring;
+    private final ShardQueryExecutor executor;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    ShardedRepositoryInterceptor(ConsistentHashRing ring, ShardQueryExecutor executor,
+                                 PlatformTransactionManager transactionManager) {
+        this.ring = ring;
+        this.executor = executor;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Object[] args = invocation.getArguments();
+        UUID userId = routingKey(method, args);
+        if (userId != null) {
+            return proceedOn(ring.shardFor(userId), invocation);
+        }
+        String name = method.getName();
+        if (name.equals("deleteById") && args.length == 1) {
+            Optional<String> owner = locate(invocation.getThis(), args[0]);
+            return owner.isPresent() ? proceedOn(owner.get(), invocation) : null;
+        }
+        if (name.startsWith("save") || name.equals("getReferenceById") || name.equals("getById")
+                || name.equals("getOne")) {
+            throw new UnsupportedOperationException(name + " cannot be routed to a single shard");
+        }
+        return scatter(invocation.getThis(), method, args);
+    }
+
+    private UUID routingKey(Method method, Object[] args) {
+        if (args.length == 0) {
+            return null;
+        }
+        if (args[0] instanceof Booking booking) {
+            return requireUserId(booking);
+        }
+        if (args[0] instanceof Iterable<?> items && method.getName().matches("(save|delete)All.*")) {
+            String shard = null;
+            UUID key = null;
+            for (Object item : items) {
+                UUID itemKey = requireUserId((Booking) item);
+                String itemShard = ring.shardFor(itemKey);
+                if (shard != null && !shard.equals(itemShard)) {
+                    throw new UnsupportedOperationException(method.getName() + " spans several shards");
+                }
+                shard = itemShard;
+                key = itemKey;
+            }
+            return key;
+        }
+        if (args[0] instanceof UUID id && method.getName().contains("ByUserId")) {
+            return id;
+        }
+        return null;
+    }
+
+    private static UUID requireUserId(Booking booking) {
+        if (booking.getUserId() == null) {
+            throw new IllegalArgumentException("Booking has no user ID to shard by");
+        }
+        return booking.getUserId();
+    }
+
+    private Object proceedOn(String shard, MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            ShardContext.bindToTransaction(shard);
+            return invocation.proceed();
+        }
+        try {
+            return ShardContext.callOn(shard, () -> {
+                try {
+                    return invocation.proceed();
+                } catch (Throwable e) {
+                    throw new ShardInvocationException(e);
+                }
+            });
+        } catch (ShardInvocationException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Optional<String> locate(Object repository, Object id) throws Throwable {
+        Method findById = CrudRepository.class.getMethod("findById", Object.class);
+        Map<String, Object> hits = onEachShard(repository, findById, new Object[]{id}, false);
+        return hits.entrySet().stream()
+                .filter(entry -> ((Optional<?>) entry.getValue()).isPresent())
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    private Object scatter(Object repository, Method method, Object[] args) throws Throwable {
+        Class<?> returnType = method.getReturnType();
+        if (Slice.class.isAssignableFrom(returnType)) {
+            return scatterPage(repository, method, args);
+        }
+        boolean write = method.getName().startsWith("delete") || method.getName().startsWith("remove");
+        Collection<Object> results = onEachShard(repository, method, args, write).values();
+        if (returnType == void.class) {
+            return null;
+        }
+        if (returnType == long.class || returnType == Long.class) {
+            return results.stream().mapToLong(result -> (Long) result).sum();
+        }
+        if (returnType == int.class || returnType == Integer.class) {
+            return results.stream().mapToInt(result -> (Integer) result).sum();
+        }
+        if (returnType == boolean.class || returnType == Boolean.class) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        if (returnType == Optional.class) {
+            return results.stream().map(result -> (Optional<?>) result)
+                    .filter(Optional::isPresent).findFirst().orElse(Optional.empty());
+        }
+        if (List.class.isAssignableFrom(returnType)) {
+            return merge(results);
+        }
+        throw new UnsupportedOperationException(method.getName() + " is not supported on a sharded repository");
+    }
+
+    private Object scatterPage(Object repository, Method method, Object[] args) throws Throwable {
+        int pageableIndex = -1;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Pageable) {
+                pageableIndex = i;
+            }
+        }
+        if (pageableIndex < 0) {
+            throw new UnsupportedOperationException(method.getName() + " is not supported on a sharded repository");
+        }
+        Pageable pageable = (Pageable) args[pageableIndex];
+        Object[] shardArgs = args.clone();
+        if (pageable.isPaged()) {
+            shardArgs[pageableIndex] = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()),
+                    pageable.getSort());
+        }
+
+        Comparator<Object> order = order(pageable.getSort());
+        List<Object> merged = new ArrayList<>();
+        long total = 0;
+        boolean more = false;
+        for (Object result : onEachShard(repository, method, shardArgs, false).values()) {
+            Slice<?> slice = (Slice<?>) result;
+            merged.addAll(slice.getContent());
+            more |= slice.hasNext();
+            if (slice instanceof Page<?> page) {
+                total += page.getTotalElements();
+            }
+        }
+        merged.sort(order);
+        if (pageable.isUnpaged()) {
+            return Page.class.isAssignableFrom(method.getReturnType())
+                    ? new PageImpl<>(merged, pageable, merged.size()) : new SliceImpl<>(merged, pageable, false);
+        }
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        List<Object> content = new ArrayList<>(merged.subList(from, to));
+        if (Page.class.isAssignableFrom(method.getReturnType())) {
+            return new PageImpl<>(content, pageable, total);
+        }
+        return new SliceImpl<>(content, pageable, more || merged.size() > to);
+    }
+
+    /**
+     * The order of a {@link Sort} applied in memory, with nulls first as H2 sorts them.
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> order(Sort sort) {
+        Comparator<Object> order = (a, b) -> 0;
+        for (Sort.Order property : sort) {
+            Comparator<Object> byProperty = Comparator.comparing(
+                    item -> (Comparable<Object>) new BeanWrapperImpl(item).getPropertyValue(property.getProperty()),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            order = order.thenComparing(property.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return order;
+    }
+
+    private Map<String, Object> onEachShard(Object repository, Method method, Object[] args, boolean write)
+            throws Throwable {
+        TransactionTemplate transaction = write ? writeTransaction : readTransaction;
+        try {
+            return executor.onEachShard(ring.shards(), shard -> ShardContext.callOn(shard,
+                    () -> transaction.execute(status -> {
+                        try {
+                            Object result = AopUtils.invokeJoinpointUsingReflection(repository, method, args);
+                            initializeBookings(result);
+                            return sortedRun(result);
+                        } catch (Throwable e) {
+                            throw new ShardInvocationException(e);
+                        }
+                    })));
+        } catch (ShardInvocationException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Loads lazy collections while the shard's session is still open.
+     */
+    private static void initializeBookings(Object result) {
+        if (result instanceof Optional<?> optional) {
+            optional.ifPresent(ShardedRepositoryInterceptor::initializeBookings);
+        } else if (result instanceof Iterable<?> items) {
+            items.forEach(ShardedRepositoryInterceptor::initializeBookings);
+        } else if (result instanceof Booking booking) {
+            Hibernate.initialize(booking.getServiceIds());
+        }
+    }
+
+    /**
+     * Sorts a shard's booking list on the shard's own thread so the merge only interleaves runs.
+     */
+    private static Object sortedRun(Object result) {
+        if (result instanceof List<?> list && !list.isEmpty()
+                && list.stream().allMatch(Booking.class::isInstance)) {
+            List<Booking> run = new ArrayList<>(list.size());
+            list.forEach(item -> run.add((Booking) item));
+            run.sort(BOOKING_ORDER);
+            return run;
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> merge(Collection<Object> results) {
+        List<List<Object>> lists = new ArrayList<>();
+        boolean bookings = true;
+        int total = 0;
+        for (Object result : results) {
+            List<Object> list = (List<Object>) result;
+            bookings &= list.stream().allMatch(Booking.class::isInstance);
+            total += list.size();
+            lists.add(list);
+        }
+        List<Object> merged = new ArrayList<>(total);
+        if (!bookings) {
+            lists.forEach(merged::addAll);
+            return merged;
+        }
+        // k-way merge of per-shard sorted runs
+        PriorityQueue<Cursor> heads = new PriorityQueue<>((a, b) -> BOOKING_ORDER.compare(a.head(), b.head()));
+        for (List<Object> list : lists) {
+            if (!list.isEmpty()) {
+                heads.add(new Cursor(list));
+            }
+        }
+        while (!heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor {
+        private final List<Object> items;
+        private int position;
+
+        private Cursor(List<Object> items) {
+            this.items = items;
+        }
+
+        private Booking head() {
+            return (Booking) items.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < items.size();
+        }
+    }
+
+    private static final class ShardInvocationException extends RuntimeException {
+        private ShardInvocationException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
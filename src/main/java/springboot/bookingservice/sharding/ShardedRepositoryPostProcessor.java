@@ -0,0 +1,37 @@
+package springboot.bookingservice.sharding;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+import springboot.bookingservice.repository.BookingRepository;
+
+/**
+ * Wraps the {@link BookingRepository} bean so its calls are routed to shards.
+ */
+public class ShardedRepositoryPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConsistentHashRing> ring;
+    private final ObjectProvider<ShardQueryExecutor> executor;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public ShardedRepositoryPostProcessor(ObjectProvider<ConsistentHashRing> ring,
+                                          ObjectProvider<ShardQueryExecutor> executor,
+                                          ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.ring = ring;
+        this.executor = executor;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof BookingRepository)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addInterface(BookingRepository.class);
+        proxyFactory.addAdvice(new ShardedRepositoryInterceptor(
+                ring.getObject(), executor.getObject(), transactionManager.getObject()));
+        return proxyFactory.getProxy();
+    }
+}
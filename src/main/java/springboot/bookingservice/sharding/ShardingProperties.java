@@ -0,0 +1,61 @@
+package springboot.bookingservice.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for partitioning bookings across several databases by user ID.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.sharding")
+public class ShardingProperties {
+
+    /**
+     * Whether bookings are spread over the configured shards.
+     */
+    private boolean enabled = false;
+
+    /**
+     * All shard databases known to this node, including ones not yet in the ring.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Names of the shards that currently own keys. Defaults to every configured shard.
+     */
+    private List<String> ring = new ArrayList<>();
+
+    /**
+     * Points each shard occupies on the hash ring; more points give a more even spread.
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Rows copied per batch by the resharding tool.
+     */
+    private int reshardBatchSize = 500;
+
+    /**
+     * Verification rounds the resharding tool runs to catch rows written during the copy.
+     */
+    private int reshardVerifyRounds = 3;
+
+    public List<String> activeShardNames() {
+        if (!ring.isEmpty()) {
+            return ring;
+        }
+        return shards.stream().map(Shard::getName).toList();
+    }
+
+    @Data
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,64 @@
+package springboot.bookingservice.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Observes each {@code BookingRepository} call as a {@code booking.repository} span tagged with
+ * the method and, for queries, the number of rows returned ({@code db.rows}).
+ */
+class RepositoryObservationInterceptor implements MethodInterceptor {
+
+    static final String NAME = "booking.repository";
+
+    private final ObservationRegistry registry;
+
+    RepositoryObservationInterceptor(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (ReflectionUtils.isObjectMethod(invocation.getMethod())) {
+            return invocation.proceed();
+        }
+        String method = invocation.getMethod().getName();
+        Observation observation = Observation.createNotStarted(NAME, registry)
+                .contextualName("booking-repository " + method)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            Object result = invocation.proceed();
+            long rows = rows(result);
+            if (rows >= 0) {
+                observation.highCardinalityKeyValue("db.rows", Long.toString(rows));
+            }
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+}
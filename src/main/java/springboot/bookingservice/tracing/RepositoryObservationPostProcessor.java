@@ -0,0 +1,38 @@
+package springboot.bookingservice.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import springboot.bookingservice.repository.BookingRepository;
+
+/**
+ * Wraps the {@link BookingRepository} bean in a {@link RepositoryObservationInterceptor}. It runs
+ * before the sharding post-processor, so with sharding enabled every per-shard query gets its
+ * own span.
+ */
+public class RepositoryObservationPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<ObservationRegistry> registry;
+
+    public RepositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof BookingRepository)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addInterface(BookingRepository.class);
+        proxyFactory.addAdvice(new RepositoryObservationInterceptor(registry.getObject()));
+        return proxyFactory.getProxy();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
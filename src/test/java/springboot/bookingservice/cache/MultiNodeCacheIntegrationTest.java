@@ -0,0 +1,118 @@
+package springboot.bookingservice.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import springboot.bookingservice.Application;
+import springboot.bookingservice.coalescing.BookingQueryCoalescer;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.service.BookingService;
+import springboot.bookingservice.service.Expansion;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two instances in one JVM against one database, sharing the embedded cache tier and bus.
+ */
+class MultiNodeCacheIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        String cluster = "cache-test-" + UUID.randomUUID();
+        nodeA = start("node-a", cluster);
+        nodeB = start("node-b", cluster);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("A change made on one node is visible to cached reads on the other")
+    void crossNodeInvalidation() {
+        UUID userId = UUID.randomUUID();
+        service(nodeA).createBooking(request(userId));
+
+        List<BookingResponse> onB = bookings(nodeB, userId);
+        assertThat(onB).extracting(BookingResponse::status).containsExactly(BookingStatus.PENDING);
+        assertThat(bookings(nodeA, userId)).extracting(BookingResponse::status).containsExactly(BookingStatus.PENDING);
+        assertThat(gets(nodeA, "shared_hit")).isEqualTo(1);
+
+        service(nodeA).cancelBooking(onB.get(0).id());
+
+        assertThat(bookings(nodeB, userId)).extracting(BookingResponse::status).containsExactly(BookingStatus.CANCELLED);
+        assertThat(bookings(nodeB, userId)).extracting(BookingResponse::status).containsExactly(BookingStatus.CANCELLED);
+        assertThat(gets(nodeB, "near_hit")).isEqualTo(1);
+
+        service(nodeB).archiveBooking(onB.get(0).id());
+
+        assertThat(bookings(nodeA, userId)).extracting(BookingResponse::status).containsExactly(BookingStatus.ARCHIVED);
+    }
+
+    @Test
+    @DisplayName("Every expansion of a user's list is invalidated")
+    void expansionsInvalidated() {
+        UUID userId = UUID.randomUUID();
+        service(nodeB).createBooking(request(userId));
+        assertThat(bookings(nodeA, userId, Expansion.ALL)).hasSize(1);
+
+        service(nodeB).createBooking(request(userId));
+
+        assertThat(bookings(nodeA, userId, Expansion.ALL)).hasSize(2);
+        assertThat(bookings(nodeA, userId, Expansion.NONE)).hasSize(2);
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId, String cluster) {
+        return new SpringApplicationBuilder(Application.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:cache-test;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--booking.cache.enabled=true",
+                "--booking.cache.node-id=" + nodeId,
+                "--booking.cache.cluster=" + cluster);
+    }
+
+    private static List<BookingResponse> bookings(ConfigurableApplicationContext node, UUID userId) {
+        return bookings(node, userId, Expansion.NONE);
+    }
+
+    private static List<BookingResponse> bookings(ConfigurableApplicationContext node, UUID userId,
+                                                  Set<Expansion> expand) {
+        return node.getBean(BookingQueryCoalescer.class).getBookingsByUser(userId, expand).getBody().bookings();
+    }
+
+    private static BookingService service(ConfigurableApplicationContext node) {
+        return node.getBean(BookingService.class);
+    }
+
+    private static double gets(ConfigurableApplicationContext node, String result) {
+        return node.getBean(MeterRegistry.class).get("booking.cache.gets").tag("result", result).counter().count();
+    }
+
+    private static BookingRequest request(UUID userId) {
+        return BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(LocalDateTime.now().plusDays(3))
+                .serviceIds(List.of(UUID.randomUUID()))
+                .vehicleId(UUID.randomUUID())
+                .totalPrice(new BigDecimal("25.00"))
+                .build();
+    }
+}
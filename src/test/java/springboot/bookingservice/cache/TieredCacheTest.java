@@ -0,0 +1,129 @@
+package springboot.bookingservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredCacheTest {
+
+    private final LocalSharedCacheTier sharedTier = new LocalSharedCacheTier();
+    private final InvalidationBus bus = new LocalInvalidationBus();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TieredCache<String> nodeA = cache("a");
+    private final TieredCache<String> nodeB = cache("b");
+
+    @Test
+    @DisplayName("A value loaded on one node is served from the shared tier, then the near cache, on another")
+    void sharedThenNear() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(nodeA.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(nodeB.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(nodeB.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        assertThat(loads).hasValue(1);
+        assertThat(gets("shared_hit")).isEqualTo(1);
+        assertThat(gets("near_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Invalidating on one node drops the near entries of every node")
+    void invalidationReachesOtherNodes() {
+        nodeA.get("k", () -> "old");
+        nodeB.get("k", () -> "old");
+
+        nodeA.invalidate("k");
+
+        assertThat(nodeB.get("k", () -> "new")).isEqualTo("new");
+        assertThat(nodeA.get("k", () -> "newer")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("A load that raced with an invalidation is returned but not cached")
+    void staleLoadIsNotCached() {
+        String loaded = nodeA.get("k", () -> {
+            nodeB.invalidate("k");
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(nodeB.get("k", () -> "fresh")).isEqualTo("fresh");
+        assertThat(nodeA.get("k", () -> "fresher")).isEqualTo("fresh");
+        assertThat(meterRegistry.get("booking.cache.stale.writes").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("An entry read before an invalidation cannot be put back into the near cache")
+    void olderEntryDoesNotOverwriteTombstone() {
+        nodeA.get("k", () -> "v0");
+        Versioned<Object> before = sharedTier.get("k");
+        nodeA.invalidate("k");
+
+        nodeB.onInvalidation(new CacheInvalidation("test", "k", before.version(), "a"));
+        sharedTier.putIfCurrent("k", before, Duration.ofMinutes(1));
+
+        assertThat(sharedTier.get("k")).isNull();
+        assertThat(nodeA.get("k", () -> "v1")).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("Values rejected by the cacheable predicate are loaded every time")
+    void uncacheableValues() {
+        AtomicInteger loads = new AtomicInteger();
+
+        nodeA.get("skip", () -> "skip" + loads.incrementAndGet());
+        nodeA.get("skip", () -> "skip" + loads.incrementAndGet());
+
+        assertThat(loads).hasValue(2);
+        assertThat(nodeA.nearSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Invalidating a key no node loaded neither tracks it nor broadcasts")
+    void untrackedKeyInvalidationIsFree() {
+        AtomicInteger messages = new AtomicInteger();
+        bus.subscribe(message -> messages.incrementAndGet());
+
+        for (int i = 0; i < 100; i++) {
+            nodeA.invalidate("user-" + i);
+        }
+
+        assertThat(sharedTier.size()).isZero();
+        assertThat(messages).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Keys without a live value are forgotten after the retention and never reuse a version")
+    void versionOnlySlotsExpire() {
+        AtomicLong now = new AtomicLong();
+        LocalSharedCacheTier tier = new LocalSharedCacheTier(Duration.ofMinutes(10), now::get);
+        long loaded = tier.version("k");
+        long invalidated = tier.invalidate("k");
+
+        now.addAndGet(Duration.ofMinutes(11).toNanos());
+        tier.version("other");
+
+        assertThat(tier.size()).isEqualTo(1);
+        assertThat(tier.invalidate("k")).isZero();
+        assertThat(tier.version("k")).isGreaterThan(invalidated);
+        assertThat(tier.putIfCurrent("k", new Versioned<>(loaded, "stale"), Duration.ofMinutes(1))).isFalse();
+    }
+
+    private TieredCache<String> cache(String nodeId) {
+        CacheProperties properties = new CacheProperties();
+        properties.setNodeId(nodeId);
+        properties.setNearMaxEntries(10);
+        return new TieredCache<>("test", properties, sharedTier, bus, value -> !value.startsWith("skip"),
+                meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("booking.cache.gets").tag("result", result).counter().count();
+    }
+}
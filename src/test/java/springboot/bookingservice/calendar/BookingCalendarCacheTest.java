@@ -0,0 +1,49 @@
+package springboot.bookingservice.calendar;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.repository.BookingRepository;
+import springboot.bookingservice.repository.BookingSlot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingCalendarCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2034, 2, 1);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+
+    @Test
+    @DisplayName("Reloads a cached day once it is older than the day TTL, picking up writes made elsewhere")
+    void reloadsExpiredDays() {
+        CalendarProperties properties = new CalendarProperties();
+        properties.setDayTtl(Duration.ofSeconds(30));
+        BookingCalendarCache cache = new BookingCalendarCache(bookingRepository, properties,
+                new SimpleMeterRegistry(), now::get);
+        BookingSlot remote = new BookingSlot(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                BookingStatus.PENDING, DAY.atTime(9, 0), null);
+        when(bookingRepository.findSlots(any(), any(), any())).thenReturn(List.of(), List.of(remote));
+
+        assertThat(cache.slots(DAY, DAY.plusDays(1)).get(DAY)).isEmpty();
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(cache.slots(DAY, DAY.plusDays(1)).get(DAY)).isEmpty();
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.slots(DAY, DAY.plusDays(1)).get(DAY)).containsExactly(remote);
+        verify(bookingRepository, times(2)).findSlots(any(), any(), any());
+    }
+}
@@ -0,0 +1,141 @@
+package springboot.bookingservice.calendar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.repository.BookingRepository;
+import springboot.bookingservice.repository.BookingSlot;
+import springboot.bookingservice.service.BookingService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:calendar-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+class BookingCalendarIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingCalendarCache calendarCache;
+
+    @Test
+    @DisplayName("Groups bookings into day and week buckets, optionally for one vehicle")
+    void buckets() throws Exception {
+        // Wednesday 2031-01-01 to Tuesday 2031-01-14
+        UUID vehicleId = UUID.randomUUID();
+        create(vehicleId, LocalDateTime.of(2031, 1, 1, 10, 0));
+        create(vehicleId, LocalDateTime.of(2031, 1, 1, 8, 0));
+        create(UUID.randomUUID(), LocalDateTime.of(2031, 1, 6, 9, 0));
+        create(vehicleId, LocalDateTime.of(2031, 1, 14, 9, 0));
+
+        mockMvc.perform(get("/api/v1/bookings/calendar").param("from", "2031-01-01").param("to", "2031-01-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets", hasSize(2)))
+                .andExpect(jsonPath("$.buckets[0].count", is(2)))
+                .andExpect(jsonPath("$.buckets[0].bookings[*].bookingDate",
+                        contains("2031-01-01T08:00:00", "2031-01-01T10:00:00")))
+                .andExpect(jsonPath("$.buckets[1].count", is(0)));
+
+        mockMvc.perform(get("/api/v1/bookings/calendar")
+                        .param("from", "2031-01-01").param("to", "2031-01-15").param("bucket", "week"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets[*].start", contains("2031-01-01", "2031-01-06", "2031-01-13")))
+                .andExpect(jsonPath("$.buckets[*].count", contains(2, 1, 1)));
+
+        mockMvc.perform(get("/api/v1/bookings/calendar")
+                        .param("from", "2031-01-01").param("to", "2031-01-15").param("bucket", "week")
+                        .param("vehicleId", vehicleId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets[*].count", contains(2, 0, 1)));
+    }
+
+    @Test
+    @DisplayName("Keeps cached days current on create and cancel")
+    void incrementalUpdates() throws Exception {
+        LocalDateTime slot = LocalDateTime.of(2032, 3, 1, 9, 0);
+        create(UUID.randomUUID(), slot);
+        mockMvc.perform(get("/api/v1/bookings/calendar").param("from", "2032-03-01").param("to", "2032-03-02"))
+                .andExpect(jsonPath("$.buckets[0].count", is(1)));
+        int cachedDays = calendarCache.cachedDays();
+
+        UUID created = create(UUID.randomUUID(), slot.plusHours(2));
+        assertThat(calendarCache.slots(LocalDate.of(2032, 3, 1), LocalDate.of(2032, 3, 2))
+                .get(LocalDate.of(2032, 3, 1))).hasSize(2);
+
+        bookingService.cancelBooking(created);
+        mockMvc.perform(get("/api/v1/bookings/calendar").param("from", "2032-03-01").param("to", "2032-03-02"))
+                .andExpect(jsonPath("$.buckets[0].count", is(1)));
+        assertThat(calendarCache.cachedDays()).isEqualTo(cachedDays);
+    }
+
+    @Test
+    @DisplayName("Drops purged bookings from cached days")
+    void deletions() {
+        LocalDate day = LocalDate.of(2033, 5, 2);
+        UUID kept = create(UUID.randomUUID(), day.atTime(9, 0));
+        UUID purged = create(UUID.randomUUID(), day.atTime(11, 0));
+        assertThat(calendarCache.slots(day, day.plusDays(1)).get(day)).hasSize(2);
+
+        Booking booking = bookingRepository.findById(purged).orElseThrow();
+        bookingRepository.delete(booking);
+        calendarCache.onBookingChanged(
+                BookingChangedEvent.deleted(purged, booking.getUserId(), booking.getStatus()));
+
+        assertThat(calendarCache.slots(day, day.plusDays(1)).get(day))
+                .extracting(BookingSlot::id).containsExactly(kept);
+    }
+
+    @Test
+    @DisplayName("Rejects empty, oversized and unknown-bucket requests")
+    void invalidRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/calendar").param("from", "2031-01-02").param("to", "2031-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/bookings/calendar").param("from", "2031-01-01").param("to", "2032-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/bookings/calendar")
+                        .param("from", "2031-01-01").param("to", "2031-01-02").param("bucket", "fortnight"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private UUID create(UUID vehicleId, LocalDateTime bookingDate) {
+        UUID userId = UUID.randomUUID();
+        bookingService.createBooking(BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(bookingDate)
+                .vehicleId(vehicleId)
+                .serviceIds(List.of(UUID.randomUUID()))
+                .paymentMethod("CARD")
+                .totalPrice(new BigDecimal("80.00"))
+                .build());
+        return bookingRepository.findByUserId(userId).stream().map(Booking::getId).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,135 @@
+package springboot.bookingservice.changefeed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.repository.BookingRepository;
+import springboot.bookingservice.service.BookingService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:changefeed-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false",
+        "booking.changes.settle-lag=0ms"
+})
+@AutoConfigureMockMvc
+class ChangeFeedIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Test
+    @DisplayName("Pages through changes with a resumable token and emits tombstones for archived bookings")
+    void incrementalSync() throws Exception {
+        String token = drain(null);
+
+        UUID first = create();
+        UUID second = create();
+        UUID third = create();
+
+        JsonNode page = fetch(token, 2);
+        assertThat(ids(page)).containsExactly(first, second);
+        assertThat(page.get("hasMore").asBoolean()).isTrue();
+        assertThat(page.get("changes").get(0).get("booking").get("status").asText()).isEqualTo("PENDING");
+
+        page = fetch(page.get("nextToken").asText(), 2);
+        assertThat(ids(page)).containsExactly(third);
+        assertThat(page.get("hasMore").asBoolean()).isFalse();
+        token = page.get("nextToken").asText();
+
+        JsonNode empty = fetch(token, 2);
+        assertThat(empty.get("changes")).isEmpty();
+        assertThat(empty.get("nextToken").asText()).isEqualTo(token);
+
+        bookingService.cancelBooking(first);
+        Thread.sleep(2);
+        bookingService.archiveBooking(second);
+        page = fetch(token, 10);
+        assertThat(ids(page)).containsExactly(first, second);
+        JsonNode tombstone = page.get("changes").get(1);
+        assertThat(tombstone.get("type").asText()).isEqualTo("ARCHIVED");
+        assertThat(tombstone.has("booking")).isFalse();
+        assertThat(page.get("changes").get(0).get("booking").get("status").asText()).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    @DisplayName("Rejects tokens it did not issue")
+    void invalidToken() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Round-trips cursors through opaque tokens")
+    void cursorEncoding() {
+        ChangeCursor cursor = new ChangeCursor(LocalDateTime.of(2030, 5, 1, 12, 30, 15, 123_456_000), UUID.randomUUID());
+        assertThat(ChangeCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    private String drain(String token) throws Exception {
+        JsonNode page;
+        do {
+            page = fetch(token, 1000);
+            token = page.get("nextToken").asText();
+        } while (page.get("hasMore").asBoolean());
+        return token;
+    }
+
+    private JsonNode fetch(String token, int size) throws Exception {
+        var request = get("/api/v1/bookings/changes").param("size", Integer.toString(size));
+        if (token != null) {
+            request.param("since", token);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<UUID> ids(JsonNode page) {
+        List<UUID> ids = new ArrayList<>();
+        page.get("changes").forEach(change -> ids.add(UUID.fromString(change.get("id").asText())));
+        return ids;
+    }
+
+    private UUID create() throws InterruptedException {
+        // distinct updatedAt values keep the expected order independent of UUID order
+        Thread.sleep(2);
+        UUID userId = UUID.randomUUID();
+        bookingService.createBooking(BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(LocalDateTime.of(2030, 1, 1, 9, 0))
+                .vehicleId(UUID.randomUUID())
+                .serviceIds(List.of(UUID.randomUUID()))
+                .paymentMethod("CARD")
+                .totalPrice(new BigDecimal("20.00"))
+                .build());
+        return bookingRepository.findByUserId(userId).stream().map(Booking::getId).findFirst().orElseThrow();
+    }
+}
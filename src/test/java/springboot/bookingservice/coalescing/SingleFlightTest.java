@@ -0,0 +1,102 @@
+package springboot.bookingservice.coalescing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("concurrent calls for one key share a single execution and its result")
+    void concurrentCalls_shareExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(0);
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger coalesced = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> flight.execute("status:PENDING", () -> {
+                executions.incrementAndGet();
+                await(release);
+                return "result";
+            }, outcome -> {
+                if (outcome == SingleFlight.Outcome.COALESCED) {
+                    coalesced.incrementAndGet();
+                }
+            })));
+        }
+        while (coalesced.get() < 7) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        pool.shutdown();
+        assertThat(executions).hasValue(1);
+        assertThat(flight.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("without a window a finished result is not reused")
+    void noWindow_reloads() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(0);
+        AtomicInteger executions = new AtomicInteger();
+
+        flight.execute("k", executions::incrementAndGet);
+        flight.execute("k", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("micro-cache window reuses a finished result until it expires or is invalidated")
+    void window_cachesUntilInvalidated() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(TimeUnit.MINUTES.toNanos(1));
+        AtomicInteger executions = new AtomicInteger();
+        List<SingleFlight.Outcome> outcomes = new ArrayList<>();
+
+        flight.execute("k", executions::incrementAndGet, outcomes::add);
+        flight.execute("k", executions::incrementAndGet, outcomes::add);
+        flight.invalidate("k");
+        flight.execute("k", executions::incrementAndGet, outcomes::add);
+
+        assertThat(executions).hasValue(2);
+        assertThat(outcomes).containsExactly(
+                SingleFlight.Outcome.LEADER, SingleFlight.Outcome.CACHED, SingleFlight.Outcome.LEADER);
+    }
+
+    @Test
+    @DisplayName("failures are propagated and never cached")
+    void failure_notCached() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(TimeUnit.MINUTES.toNanos(1));
+
+        assertThatThrownBy(() -> flight.execute("k", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("db down");
+
+        assertThat(flight.execute("k", () -> 7)).isEqualTo(7);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package springboot.bookingservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.ingest.PendingBooking;
+import springboot.bookingservice.mapper.BookingMapperImpl;
+import springboot.bookingservice.model.Booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("Registers Jackson binding hints for types serialized outside controllers")
+    void registersJsonTypes() throws Exception {
+        new BookingRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PendingBooking.class.getMethod("request")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(BookingRequest.class.getMethod("getBookingDate")))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Registers the entity, Lombok builders and generated mapper for reflective construction")
+    void registersEntityAndBuilders() {
+        new BookingRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(Booking.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BookingRequest.BookingRequestBuilder.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BookingMapperImpl.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+    }
+}
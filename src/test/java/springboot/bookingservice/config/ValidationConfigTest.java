@@ -0,0 +1,98 @@
+package springboot.bookingservice.config;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import springboot.bookingservice.dto.BookingRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationConfigTest {
+
+    private final ValidatorFactory factory = predefinedScopeFactory();
+    private final Validator validator = factory.getValidator();
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(ValidationConfig.class);
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    @DisplayName("Reports the same violations as the booking request's constraints declare")
+    void validatesBookingRequest() {
+        BookingRequest request = BookingRequest.builder()
+                .userId(UUID.randomUUID())
+                .bookingDate(LocalDateTime.now().minusDays(1))
+                .serviceIds(List.of(UUID.randomUUID()))
+                .build();
+
+        Set<ConstraintViolation<BookingRequest>> violations = validator.validate(request);
+
+        assertThat(violations).extracting(ConstraintViolation::getMessage)
+                .containsExactlyInAnyOrder("Booking date must be in the future", "Vehicle ID is required",
+                        "Total price is required");
+    }
+
+    @Test
+    @DisplayName("Accepts a valid booking request")
+    void acceptsValidRequest() {
+        BookingRequest request = BookingRequest.builder()
+                .userId(UUID.randomUUID())
+                .vehicleId(UUID.randomUUID())
+                .bookingDate(LocalDateTime.now().plusDays(1))
+                .serviceIds(List.of(UUID.randomUUID()))
+                .totalPrice(new BigDecimal("80.00"))
+                .build();
+
+        assertThat(validator.validate(request)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The booking request validator refuses types outside the predefined scope")
+    void bookingRequestValidatorSupportsScopeOnly() {
+        contextRunner.run(context -> {
+            BookingRequestValidator bookingRequestValidator = context.getBean(BookingRequestValidator.class);
+
+            assertThat(bookingRequestValidator.supports(BookingRequest.class)).isTrue();
+            assertThat(bookingRequestValidator.supports(Unregistered.class)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Leaves Spring Boot's default validator in place for every other type")
+    void keepsDefaultValidator() {
+        contextRunner.run(context -> {
+            Validator defaultValidator = context.getBean("defaultValidator", Validator.class);
+
+            assertThat(context).getBeans(Validator.class).hasSize(1);
+            assertThat(defaultValidator.validate(new Unregistered(null))).hasSize(1);
+        });
+    }
+
+    private static ValidatorFactory predefinedScopeFactory() {
+        var configuration = Validation.byProvider(PredefinedScopeHibernateValidator.class).configure();
+        ValidationConfig.predefineScope(configuration);
+        return configuration.buildValidatorFactory();
+    }
+
+    record Unregistered(@NotNull String value) {
+    }
+}
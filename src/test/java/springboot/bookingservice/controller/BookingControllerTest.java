@@ -1,6 +1,7 @@
 package springboot.bookingservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,15 +9,20 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.validation.MessageInterpolatorFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.coalescing.BookingQueryCoalescer;
+import springboot.bookingservice.coalescing.CoalescingProperties;
+import springboot.bookingservice.config.BookingRequestValidator;
 import springboot.bookingservice.dto.BookingRequest;
 import springboot.bookingservice.dto.BookingResponse;
 import springboot.bookingservice.dto.GetBookingResponse;
 import springboot.bookingservice.model.BookingStatus;
 import springboot.bookingservice.service.BookingService;
+import springboot.bookingservice.service.Expansion;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -48,6 +54,14 @@ class BookingControllerTest {
         @org.springframework.context.annotation.Bean
         @org.springframework.context.annotation.Primary
         SimpMessagingTemplate simpMessagingTemplate() { return org.mockito.Mockito.mock(SimpMessagingTemplate.class); }
+        @org.springframework.context.annotation.Bean
+        BookingRequestValidator bookingRequestValidator() {
+            return Mockito.spy(new BookingRequestValidator(new MessageInterpolatorFactory().getObject()));
+        }
+        @org.springframework.context.annotation.Bean
+        BookingQueryCoalescer bookingQueryCoalescer(BookingService bookingService) {
+            return new BookingQueryCoalescer(bookingService, new CoalescingProperties(), new SimpleMeterRegistry());
+        }
     }
 
     @Autowired
@@ -62,6 +76,9 @@ class BookingControllerTest {
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
+    @Autowired
+    private BookingRequestValidator bookingRequestValidator;
+
     private BookingRequest validRequest() {
         return BookingRequest.builder()
                 .userId(UUID.randomUUID())
@@ -98,6 +115,7 @@ class BookingControllerTest {
                         .content(objectMapper.writeValueAsString(invalid)))
                 .andExpect(status().isBadRequest());
 
+        verify(bookingRequestValidator).validate(any(BookingRequest.class), any());
         Mockito.verifyNoInteractions(bookingService);
     }
 
@@ -112,14 +130,14 @@ class BookingControllerTest {
                 .vehicleDescription("Vehicle abc")
                 .build();
         GetBookingResponse payload = GetBookingResponse.builder().bookings(List.of(br)).build();
-        Mockito.when(bookingService.getBookingsByUser(uid)).thenReturn(ResponseEntity.ok(payload));
+        Mockito.when(bookingService.getBookingsByUser(uid, Expansion.NONE)).thenReturn(ResponseEntity.ok(payload));
 
         mockMvc.perform(get("/api/v1/bookings").param("userId", uid.toString()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.bookings", hasSize(1)))
                 .andExpect(jsonPath("$.bookings[0].userId", is(uid.toString())));
 
-        verify(bookingService, times(1)).getBookingsByUser(eq(uid));
+        verify(bookingService, times(1)).getBookingsByUser(eq(uid), eq(Expansion.NONE));
     }
 
     @Test
@@ -133,26 +151,48 @@ class BookingControllerTest {
                 .vehicleDescription("Vehicle abc")
                 .build();
         GetBookingResponse payload = GetBookingResponse.builder().bookings(List.of(br)).build();
-        Mockito.when(bookingService.getBookingsByStatus(status)).thenReturn(ResponseEntity.ok(payload));
+        Mockito.when(bookingService.getBookingsByStatus(status, Expansion.NONE)).thenReturn(ResponseEntity.ok(payload));
 
         mockMvc.perform(get("/api/v1/bookings").param("status", status))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.bookings", hasSize(1)))
                 .andExpect(jsonPath("$.bookings[0].status", is(BookingStatus.CONFIRMED.name())));
 
-        verify(bookingService, times(1)).getBookingsByStatus(eq(status));
+        verify(bookingService, times(1)).getBookingsByStatus(eq(status), eq(Expansion.NONE));
     }
 
     @Test
     @DisplayName("GET /api/v1/bookings?status=invalid returns 400 when service rejects")
     void getBookings_byStatus_invalid() throws Exception {
         String status = "invalid";
-        Mockito.when(bookingService.getBookingsByStatus(status)).thenReturn(ResponseEntity.badRequest().build());
+        Mockito.when(bookingService.getBookingsByStatus(status, Expansion.NONE)).thenReturn(ResponseEntity.badRequest().build());
 
         mockMvc.perform(get("/api/v1/bookings").param("status", status))
                 .andExpect(status().isBadRequest());
 
-        verify(bookingService, times(1)).getBookingsByStatus(eq(status));
+        verify(bookingService, times(1)).getBookingsByStatus(eq(status), eq(Expansion.NONE));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings?expand=... passes the requested expansions")
+    void getBookings_expand() throws Exception {
+        UUID uid = UUID.randomUUID();
+        GetBookingResponse payload = GetBookingResponse.builder().bookings(List.of()).build();
+        Mockito.when(bookingService.getBookingsByUser(uid, Expansion.ALL)).thenReturn(ResponseEntity.ok(payload));
+
+        mockMvc.perform(get("/api/v1/bookings").param("userId", uid.toString()).param("expand", "vehicle,services"))
+                .andExpect(status().isOk());
+
+        verify(bookingService, times(1)).getBookingsByUser(eq(uid), eq(Expansion.ALL));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings?expand=unknown returns 400")
+    void getBookings_expand_invalid() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings").param("userId", UUID.randomUUID().toString()).param("expand", "owner"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(bookingService);
     }
 
     @Test
@@ -160,12 +200,12 @@ class BookingControllerTest {
     void getBookings_bothParams_prefersUserId() throws Exception {
         UUID uid = UUID.randomUUID();
         GetBookingResponse payload = GetBookingResponse.builder().bookings(List.of()).build();
-        Mockito.when(bookingService.getBookingsByUser(uid)).thenReturn(ResponseEntity.ok(payload));
+        Mockito.when(bookingService.getBookingsByUser(uid, Expansion.NONE)).thenReturn(ResponseEntity.ok(payload));
 
         mockMvc.perform(get("/api/v1/bookings").param("userId", uid.toString()).param("status", "pending"))
                 .andExpect(status().isOk());
 
-        verify(bookingService, times(1)).getBookingsByUser(eq(uid));
+        verify(bookingService, times(1)).getBookingsByUser(eq(uid), eq(Expansion.NONE));
         Mockito.verifyNoInteractions(messagingTemplate);
     }
 
@@ -0,0 +1,139 @@
+package springboot.bookingservice.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaA;
+    private DataSource replicaB;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = node("primary");
+        replicaA = node("replica-a");
+        replicaB = node("replica-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("read-write work goes to the primary")
+    void readWrite_usesPrimary() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB));
+
+        assertThat(nodeName(routing)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("read-only work is spread over replicas in round-robin order")
+    void readOnly_roundRobinsReplicas() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(nodeName(routing), nodeName(routing), nodeName(routing)))
+                .containsExactly("replica-a", "replica-b", "replica-a");
+    }
+
+    @Test
+    @DisplayName("per-call credentials are passed to the selected target")
+    void explicitCredentials_routed() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (Connection connection = routing.getConnection("", "");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select name from node")) {
+            rs.next();
+            assertThat(rs.getString(1)).isEqualTo("replica-a");
+        }
+    }
+
+    @Test
+    @DisplayName("read-only work pinned to the primary skips replicas")
+    void readOnly_primaryForced() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        String name = DataSourceRoutingContext.onPrimary(() -> {
+            try {
+                return nodeName(routing);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(name).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("unreachable replicas are marked down and skipped, falling back to the primary")
+    void unhealthyReplica_skipped() throws SQLException {
+        JdbcDataSource broken = new JdbcDataSource();
+        broken.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(broken, replicaB));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routing.checkHealth(Duration.ofSeconds(1));
+
+        assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+        assertThat(List.of(nodeName(routing), nodeName(routing))).containsOnly("replica-b");
+
+        ReplicaRoutingDataSource allBroken = new ReplicaRoutingDataSource(primary, List.of(broken));
+        assertThat(nodeName(allBroken)).isEqualTo("primary");
+        assertThat(allBroken.healthyReplicaCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("read-your-writes tracker pins a user to the primary only within the window")
+    void readYourWritesTracker_window() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(true, Duration.ofMillis(50));
+
+        tracker.recordWrite(userId);
+        assertThat(tracker.requiresPrimary(userId)).isTrue();
+        assertThat(tracker.requiresPrimary(UUID.randomUUID())).isFalse();
+
+        Thread.sleep(80);
+        assertThat(tracker.requiresPrimary(userId)).isFalse();
+        assertThat(new ReadYourWritesTracker(false, Duration.ofMinutes(1)).requiresPrimary(userId)).isFalse();
+    }
+
+    private static DataSource node(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table node (name varchar(32))");
+            statement.execute("insert into node values ('" + name + "')");
+        }
+        return dataSource;
+    }
+
+    private static String nodeName(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select name from node")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package springboot.bookingservice.diagnostics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.service.BookingService;
+import springboot.bookingservice.service.Expansion;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diagnostics-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false",
+        "booking.coalescing.enabled=false",
+        "booking.diagnostics.enabled=true",
+        "booking.diagnostics.slow-threshold=0ms",
+        "booking.diagnostics.n-plus-one-threshold=3"
+})
+@AutoConfigureMockMvc
+class QueryDiagnosticsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private QueryDiagnosticsEndpoint endpoint;
+
+    @BeforeEach
+    void reset() {
+        endpoint.reset();
+    }
+
+    @Test
+    @DisplayName("Records slow statements with parameter shapes and the calling service method")
+    void slowStatements() {
+        UUID userId = UUID.randomUUID();
+        create(userId);
+        bookingService.getBookingsByUser(userId, Expansion.NONE);
+
+        QueryDiagnosticsReport report = endpoint.report();
+        assertThat(report.slowest())
+                .filteredOn(sample -> sample.sql().startsWith("select") && sample.sql().contains("user_id=?"))
+                .first()
+                .satisfies(sample -> {
+                    assertThat(sample.parameters()).isEqualTo("[UUID]");
+                    assertThat(sample.caller()).isEqualTo("BookingService.getBookingsByUser");
+                });
+        assertThat(report.hottest()).isNotEmpty();
+        assertThat(report.hibernate()).containsKey("queriesExecuted");
+    }
+
+    @Test
+    @DisplayName("Fetches the service IDs of a listed user's bookings in one batch instead of N+1")
+    void listFetchesServiceIdsInOneBatch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) {
+            create(userId);
+        }
+        endpoint.reset();
+
+        mockMvc.perform(get("/api/v1/bookings").param("userId", userId.toString()))
+                .andExpect(status().isOk());
+
+        QueryDiagnosticsReport report = endpoint.report();
+        assertThat(report.nPlusOne()).isEmpty();
+        assertThat(report.hottest())
+                .filteredOn(summary -> summary.sql().startsWith("select") && summary.sql().contains("booking_services"))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.executions()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("Is served by the Actuator endpoint")
+    void actuatorEndpoint() throws Exception {
+        mockMvc.perform(get("/actuator/querydiagnostics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hibernate.queriesExecuted", notNullValue()));
+    }
+
+    @Test
+    @DisplayName("Normalizes whitespace and IN lists into one statement shape")
+    void normalize() {
+        assertThat(StatementDiagnosticsListener.normalize("select *\n  from bookings where id in (?, ?,?)"))
+                .isEqualTo("select * from bookings where id in (?...)");
+    }
+
+    @Test
+    @DisplayName("Tracks IN lists of every length as one shape, in the totals and the N+1 counts")
+    void inListsShareOneShape() {
+        DiagnosticsProperties properties = new DiagnosticsProperties();
+        properties.setMaxTrackedStatements(2);
+        properties.setNPlusOneThreshold(3);
+        StatementDiagnosticsListener listener = new StatementDiagnosticsListener(properties);
+
+        listener.openRequest();
+        for (int length = 2; length <= 10; length++) {
+            execute(listener, "select * from bookings where id in (" + "?, ".repeat(length - 1) + "?)");
+        }
+        listener.closeRequest("GET /api/v1/bookings/search");
+        execute(listener, "select * from booking_services where booking_id=?");
+
+        assertThat(listener.hottest(10))
+                .extracting(StatementSummary::sql, StatementSummary::executions)
+                .containsExactlyInAnyOrder(
+                        tuple("select * from bookings where id in (?...)", 9L),
+                        tuple("select * from booking_services where booking_id=?", 1L));
+        assertThat(listener.nPlusOnes())
+                .singleElement()
+                .satisfies(sample -> {
+                    assertThat(sample.sql()).isEqualTo("select * from bookings where id in (?...)");
+                    assertThat(sample.executions()).isEqualTo(9);
+                });
+    }
+
+    private static void execute(StatementDiagnosticsListener listener, String sql) {
+        ExecutionInfo execution = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+    }
+
+    private void create(UUID userId) {
+        bookingService.createBooking(BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(LocalDateTime.of(2030, 1, 1, 9, 0))
+                .vehicleId(UUID.randomUUID())
+                .serviceIds(List.of(UUID.randomUUID()))
+                .paymentMethod("CARD")
+                .totalPrice(new BigDecimal("50.00"))
+                .build());
+    }
+}
@@ -0,0 +1,91 @@
+package springboot.bookingservice.enrichment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.service.BookingService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:enrichment-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false",
+        "booking.coalescing.enabled=false",
+        "booking.enrichment.fault-injection.enabled=true",
+        "booking.enrichment.vehicle.minimum-calls=2",
+        "booking.enrichment.vehicle.open-duration=1h"
+})
+@AutoConfigureMockMvc
+class EnrichmentResilienceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private FaultInjector faultInjector;
+
+    @AfterEach
+    void clearFaults() {
+        faultInjector.clear();
+    }
+
+    @Test
+    @DisplayName("Returns placeholder names flagged partial while the vehicle upstream fails, then short-circuits")
+    void partialResponses() throws Exception {
+        UUID userId = UUID.randomUUID();
+        create(userId);
+        create(userId);
+
+        mockMvc.perform(get("/api/v1/bookings").param("userId", userId.toString()).param("expand", "vehicle,services"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partial").doesNotExist())
+                .andExpect(jsonPath("$.bookings[0].vehicleDescription", startsWith("Vehicle ")));
+
+        faultInjector.inject("vehicle", new FaultInjector.Fault(Duration.ZERO, 0, 1));
+        mockMvc.perform(get("/api/v1/bookings").param("userId", userId.toString()).param("expand", "vehicle,services"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partial", is(true)))
+                .andExpect(jsonPath("$.bookings[0].partial", is(true)))
+                .andExpect(jsonPath("$.bookings[0].vehicleDescription", is("Vehicle details unavailable")))
+                .andExpect(jsonPath("$.bookings[0].serviceNames", is("1 Service(s) Selected")));
+
+        faultInjector.clear();
+        // the circuit stays open, so the recovered upstream is not called yet
+        mockMvc.perform(get("/api/v1/bookings").param("userId", userId.toString()).param("expand", "vehicle,services"))
+                .andExpect(jsonPath("$.partial", is(true)));
+        mockMvc.perform(get("/actuator/metrics/booking.enrichment.calls")
+                        .param("tag", "upstream:vehicle").param("tag", "outcome:short_circuited"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value", is(2.0)));
+    }
+
+    private void create(UUID userId) {
+        bookingService.createBooking(BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(LocalDateTime.of(2030, 1, 1, 9, 0))
+                .vehicleId(UUID.randomUUID())
+                .serviceIds(List.of(UUID.randomUUID()))
+                .paymentMethod("CARD")
+                .totalPrice(new BigDecimal("20.00"))
+                .build());
+    }
+}
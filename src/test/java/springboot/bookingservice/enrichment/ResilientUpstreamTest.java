@@ -0,0 +1,116 @@
+package springboot.bookingservice.enrichment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientUpstreamTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FaultInjector faults = new FaultInjector();
+    private ResilientUpstream upstream;
+
+    @AfterEach
+    void close() {
+        upstream.destroy();
+    }
+
+    @Test
+    @DisplayName("Rejects calls beyond the bulkhead without waiting")
+    void bulkheadRejects() throws Exception {
+        EnrichmentProperties.Upstream settings = new EnrichmentProperties.Upstream();
+        settings.setMaxConcurrent(1);
+        upstream = new ResilientUpstream("test", settings, meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            caller.submit(() -> upstream.call(() -> {
+                entered.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> upstream.call(() -> "fast"))
+                    .isInstanceOf(UpstreamUnavailableException.class)
+                    .hasMessageContaining("bulkhead full");
+            assertThat(count("rejected")).isEqualTo(1);
+        } finally {
+            release.countDown();
+            caller.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Short-circuits once failures open the circuit")
+    void circuitOpens() {
+        EnrichmentProperties.Upstream settings = new EnrichmentProperties.Upstream();
+        settings.setMinimumCalls(2);
+        upstream = new ResilientUpstream("test", settings, meterRegistry);
+        faults.inject("test", new FaultInjector.Fault(Duration.ZERO, 0, 1));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> upstream.call(() -> faults.apply("test", () -> "x")))
+                    .hasMessageContaining("call failed");
+        }
+        assertThatThrownBy(() -> upstream.call(() -> "x")).hasMessageContaining("circuit open");
+        assertThat(upstream.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("booking.enrichment.circuit.state").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Hedges a slow first attempt and returns the faster second one")
+    void hedgesSlowCalls() {
+        EnrichmentProperties.Upstream settings = new EnrichmentProperties.Upstream();
+        settings.setHedgeDelay(Duration.ofMillis(20));
+        settings.setTimeout(Duration.ofSeconds(2));
+        upstream = new ResilientUpstream("test", settings, meterRegistry);
+        // the first call sleeps, the second does not
+        faults.inject("test", new FaultInjector.Fault(Duration.ofSeconds(5), 2, 0));
+
+        long start = System.nanoTime();
+        assertThat(upstream.call(() -> faults.apply("test", () -> "done"))).isEqualTo("done");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("booking.enrichment.hedges").counter().count()).isEqualTo(1);
+        assertThat(count("success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Gives up on hedged calls at the timeout")
+    void timesOut() {
+        EnrichmentProperties.Upstream settings = new EnrichmentProperties.Upstream();
+        settings.setHedgeDelay(Duration.ofMillis(10));
+        settings.setTimeout(Duration.ofMillis(100));
+        upstream = new ResilientUpstream("test", settings, meterRegistry);
+        faults.inject("test", new FaultInjector.Fault(Duration.ofSeconds(5), 1, 0));
+
+        assertThatThrownBy(() -> upstream.call(() -> faults.apply("test", () -> "late")))
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasMessageContaining("timed out");
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("booking.enrichment.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
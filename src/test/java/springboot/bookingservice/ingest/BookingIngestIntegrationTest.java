@@ -0,0 +1,204 @@
+package springboot.bookingservice.ingest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.datasource.ReadYourWritesTracker;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.service.BookingService;
+import springboot.bookingservice.service.Expansion;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "booking.ingest.async-enabled=true",
+        "booking.ingest.drain-interval=1h",
+        "spring.datasource.url=jdbc:h2:mem:ingest-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class BookingIngestIntegrationTest {
+
+    @TempDir
+    static Path walDir;
+
+    @TestConfiguration
+    static class TrackerConfig {
+        @Bean
+        @Primary
+        ReadYourWritesTracker enabledReadYourWritesTracker() {
+            return new ReadYourWritesTracker(true, Duration.ofMinutes(1));
+        }
+    }
+
+    @DynamicPropertySource
+    static void walPath(DynamicPropertyRegistry registry) {
+        registry.add("booking.ingest.wal-path", () -> walDir.resolve("ingest.wal").toString());
+        registry.add("booking.ingest.dead-letter-path", () -> walDir.resolve("ingest.dead").toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingIngestService ingestService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Test
+    @DisplayName("POST is acknowledged with an ID before the booking is written, then drained in a batch")
+    void acceptThenDrain() throws Exception {
+        UUID userId = UUID.randomUUID();
+        BookingRequest request = BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(LocalDateTime.now().plusDays(3))
+                .serviceIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .vehicleId(UUID.randomUUID())
+                .additionalNotes("async")
+                .totalPrice(new BigDecimal("42.00"))
+                .build();
+
+        String body = mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state", is("PENDING")))
+                .andReturn().getResponse().getContentAsString();
+        UUID id = UUID.fromString(objectMapper.readTree(body).get("id").asText());
+
+        mockMvc.perform(get("/api/v1/bookings/ingest/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("PENDING")));
+        assertThat(bookingService.getBookingsByUser(userId, Expansion.NONE).getBody().bookings()).isEmpty();
+
+        assertThat(readYourWritesTracker.requiresPrimary(userId)).isFalse();
+        assertThat(ingestService.drain()).isEqualTo(1);
+        assertThat(readYourWritesTracker.requiresPrimary(userId)).isTrue();
+
+        mockMvc.perform(get("/api/v1/bookings/ingest/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("PERSISTED")));
+        JsonNode pending = objectMapper.readTree(mockMvc.perform(get("/api/v1/bookings/ingest/pending"))
+                .andReturn().getResponse().getContentAsString());
+        assertThat(pending).isEmpty();
+        assertThat(bookingService.getBookingsByUser(userId, Expansion.NONE).getBody().bookings())
+                .singleElement()
+                .satisfies(booking -> {
+                    assertThat(booking.id()).isEqualTo(id);
+                    assertThat(booking.serviceIds()).hasSize(2);
+                    assertThat(booking.additionalNotes()).isEqualTo("async");
+                });
+        mockMvc.perform(get("/api/v1/bookings/ingest/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("A booking the database rejects is dead-lettered without holding up the rest of its batch")
+    void badRecordInBatch() throws Exception {
+        ingestService.drain();
+        UUID before = ingestService.submit(request(new BigDecimal("10.00")));
+        UUID bad = ingestService.submit(request(null));
+        UUID after = ingestService.submit(request(new BigDecimal("12.00")));
+
+        assertThat(ingestService.drain()).isEqualTo(2);
+
+        assertThat(ingestService.state(before)).isEqualTo(BookingIngestService.State.PERSISTED);
+        assertThat(ingestService.state(after)).isEqualTo(BookingIngestService.State.PERSISTED);
+        assertThat(ingestService.state(bad)).isEqualTo(BookingIngestService.State.UNKNOWN);
+        assertThat(ingestService.pendingIds(Integer.MAX_VALUE)).isEmpty();
+        assertThat(Files.readAllLines(walDir.resolve("ingest.dead")))
+                .singleElement()
+                .satisfies(line -> assertThat(objectMapper.readValue(line, PendingBooking.class).id()).isEqualTo(bad));
+
+        UUID next = ingestService.submit(request(new BigDecimal("14.00")));
+        assertThat(ingestService.drain()).isEqualTo(1);
+        assertThat(ingestService.state(next)).isEqualTo(BookingIngestService.State.PERSISTED);
+    }
+
+    @Test
+    @DisplayName("bookings submitted while a drain runs never stay pending after they are written")
+    void concurrentSubmitAndDrain() throws Exception {
+        int writers = 4;
+        int perWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            List<Future<List<UUID>>> submitted = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                submitted.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int i = 0; i < perWriter; i++) {
+                        ids.add(ingestService.submit(request(new BigDecimal("10.00"))));
+                    }
+                    return ids;
+                }));
+            }
+            AtomicBoolean writing = new AtomicBoolean(true);
+            Future<?> drainer = executor.submit(() -> {
+                while (writing.get()) {
+                    ingestService.drain();
+                }
+            });
+            List<UUID> ids = new ArrayList<>();
+            for (Future<List<UUID>> future : submitted) {
+                ids.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            writing.set(false);
+            drainer.get(30, TimeUnit.SECONDS);
+            ingestService.drain();
+
+            assertThat(ingestService.pendingIds(Integer.MAX_VALUE)).isEmpty();
+            assertThat(ids).hasSize(writers * perWriter)
+                    .allSatisfy(id -> assertThat(ingestService.state(id)).isEqualTo(BookingIngestService.State.PERSISTED));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static BookingRequest request(BigDecimal totalPrice) {
+        return BookingRequest.builder()
+                .userId(UUID.randomUUID())
+                .bookingDate(LocalDateTime.now().plusDays(3))
+                .serviceIds(List.of(UUID.randomUUID()))
+                .vehicleId(UUID.randomUUID())
+                .totalPrice(totalPrice)
+                .build();
+    }
+}
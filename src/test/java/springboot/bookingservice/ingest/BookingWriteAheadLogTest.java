@@ -0,0 +1,143 @@
+package springboot.bookingservice.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingWriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("records are read back in order and the checkpoint advances on commit")
+    void appendReadCommit() throws Exception {
+        try (BookingWriteAheadLog wal = new BookingWriteAheadLog(dir.resolve("wal"), 4096, true)) {
+            wal.append(bytes("a"));
+            wal.append(bytes("b"));
+            wal.append(bytes("c"));
+
+            List<BookingWriteAheadLog.Entry> first = wal.read(2);
+            assertThat(first).extracting(e -> text(e.payload())).containsExactly("a", "b");
+            wal.commit(first.get(1).nextOffset());
+
+            assertThat(wal.read(10)).extracting(e -> text(e.payload())).containsExactly("c");
+        }
+    }
+
+    @Test
+    @DisplayName("reopening replays records after the checkpoint only")
+    void recovery_replaysUncommitted() throws Exception {
+        Path path = dir.resolve("wal");
+        try (BookingWriteAheadLog wal = new BookingWriteAheadLog(path, 4096, true)) {
+            wal.append(bytes("drained"));
+            wal.append(bytes("pending"));
+            wal.commit(wal.read(1).get(0).nextOffset());
+        }
+
+        try (BookingWriteAheadLog reopened = new BookingWriteAheadLog(path, 4096, true)) {
+            assertThat(reopened.read(10)).extracting(e -> text(e.payload())).containsExactly("pending");
+        }
+    }
+
+    @Test
+    @DisplayName("a fully drained log rewinds and old records are never replayed")
+    void rewind_ignoresStaleRecords() throws Exception {
+        Path path = dir.resolve("wal");
+        try (BookingWriteAheadLog wal = new BookingWriteAheadLog(path, 4096, true)) {
+            wal.append(bytes("old-1"));
+            wal.append(bytes("old-2"));
+            wal.commit(wal.read(10).get(1).nextOffset());
+            assertThat(wal.pendingBytes()).isZero();
+            wal.append(bytes("new"));
+        }
+
+        try (BookingWriteAheadLog reopened = new BookingWriteAheadLog(path, 4096, true)) {
+            assertThat(reopened.read(10)).extracting(e -> text(e.payload())).containsExactly("new");
+        }
+    }
+
+    @Test
+    @DisplayName("a torn record at the tail is dropped on recovery")
+    void recovery_dropsTornRecord() throws Exception {
+        Path path = dir.resolve("wal");
+        long tornOffset;
+        try (BookingWriteAheadLog wal = new BookingWriteAheadLog(path, 4096, true)) {
+            wal.append(bytes("complete"));
+            tornOffset = wal.append(bytes("torn"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(tornOffset + 12);
+            file.write('X');
+        }
+
+        try (BookingWriteAheadLog reopened = new BookingWriteAheadLog(path, 4096, true)) {
+            assertThat(reopened.read(10)).extracting(e -> text(e.payload())).containsExactly("complete");
+            reopened.append(bytes("after"));
+            assertThat(reopened.read(10)).extracting(e -> text(e.payload())).containsExactly("complete", "after");
+        }
+    }
+
+    @Test
+    @DisplayName("appending beyond the capacity fails instead of overwriting")
+    void full_rejectsAppend() throws Exception {
+        try (BookingWriteAheadLog wal = new BookingWriteAheadLog(dir.resolve("wal"), 128, true)) {
+            wal.append(new byte[40]);
+            assertThatThrownBy(() -> wal.append(new byte[40])).isInstanceOf(WalFullException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("committed space is reused while the drainer trails the writer, wrapping around the end")
+    void wraparound_reusesCommittedSpace() throws Exception {
+        try (BookingWriteAheadLog wal = new BookingWriteAheadLog(dir.resolve("wal"), 256, true)) {
+            int next = 0;
+            int drained = 0;
+            wal.append(bytes("record-" + next++));
+            // one record always stays behind, so the reader never catches up and the log never rewinds
+            for (int i = 0; i < 200; i++) {
+                wal.append(bytes("record-" + next++));
+                List<BookingWriteAheadLog.Entry> entries = wal.read(10);
+                assertThat(entries).extracting(e -> text(e.payload()))
+                        .containsExactly("record-" + drained, "record-" + (drained + 1));
+                wal.commit(entries.get(0).nextOffset());
+                drained++;
+            }
+            assertThat(wal.read(10)).extracting(e -> text(e.payload())).containsExactly("record-" + drained);
+        }
+    }
+
+    @Test
+    @DisplayName("records that wrapped around the end are replayed on recovery, older laps are not")
+    void recovery_afterWraparound() throws Exception {
+        Path path = dir.resolve("wal");
+        try (BookingWriteAheadLog wal = new BookingWriteAheadLog(path, 256, true)) {
+            wal.append(bytes("record-0"));
+            for (int i = 1; i <= 30; i++) {
+                wal.append(bytes("record-" + i));
+                wal.commit(wal.read(1).get(0).nextOffset());
+            }
+            wal.append(bytes("pending"));
+        }
+
+        try (BookingWriteAheadLog reopened = new BookingWriteAheadLog(path, 256, true)) {
+            assertThat(reopened.read(10)).extracting(e -> text(e.payload())).containsExactly("record-30", "pending");
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package springboot.bookingservice.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.model.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingMapperTest {
+
+    private final BookingMapper mapper = BookingMapper.INSTANCE;
+
+    @Test
+    @DisplayName("Maps a request to a new PENDING booking without id or timestamps")
+    void toBooking() {
+        BookingRequest request = BookingRequest.builder()
+                .userId(UUID.randomUUID())
+                .vehicleId(UUID.randomUUID())
+                .bookingDate(LocalDateTime.of(2030, 5, 1, 9, 0))
+                .serviceIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .additionalNotes("Winter tyres")
+                .paymentMethod("CARD")
+                .phoneNumber("+359888123456")
+                .totalPrice(new BigDecimal("99.99"))
+                .build();
+
+        Booking booking = mapper.toBooking(request);
+
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.PENDING);
+        assertThat(booking.getId()).isNull();
+        assertThat(booking.getCreatedAt()).isNull();
+        assertThat(booking).usingRecursiveComparison()
+                .ignoringFields("id", "status", "estimatedCompletionTime", "actualCompletionTime", "createdAt", "updatedAt")
+                .isEqualTo(request);
+    }
+
+    @Test
+    @DisplayName("Maps a booking to a response with a read-only view of its service IDs")
+    void toResponse() {
+        Booking booking = Booking.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .vehicleId(UUID.randomUUID())
+                .bookingDate(LocalDateTime.of(2030, 5, 1, 9, 0))
+                .status(BookingStatus.CONFIRMED)
+                .serviceIds(new ArrayList<>(List.of(UUID.randomUUID())))
+                .totalPrice(new BigDecimal("49.00"))
+                .build();
+
+        BookingResponse response = mapper.toResponse(booking, "Vehicle A", "Oil change", false);
+
+        assertThat(response.id()).isEqualTo(booking.getId());
+        assertThat(response.status()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(response.totalPrice()).isEqualByComparingTo("49.00");
+        assertThat(response.vehicleDescription()).isEqualTo("Vehicle A");
+        assertThat(response.serviceNames()).isEqualTo("Oil change");
+        assertThat(response.partial()).isNull();
+        assertThat(response.serviceIds()).containsExactlyElementsOf(booking.getServiceIds());
+        assertThatThrownBy(() -> response.serviceIds().add(UUID.randomUUID()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Flags a response partial only when asked to")
+    void toResponse_partial() {
+        Booking booking = Booking.builder().id(UUID.randomUUID()).build();
+
+        BookingResponse response = mapper.toResponse(booking, null, null, true);
+
+        assertThat(response.partial()).isTrue();
+        assertThat(response.serviceIds()).isNull();
+    }
+}
@@ -0,0 +1,34 @@
+package springboot.bookingservice.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper jacksonDefault = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper lean = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2030-01-05T00:00:00", "2030-12-31T23:59:59", "0001-02-03T04:05:06", "9999-12-31T23:59:59.999999999",
+            "2030-06-15T08:30:00.1", "2030-06-15T08:30:00.12", "2030-06-15T08:30:00.000120", "2030-06-15T08:30:00.000000001",
+            "+10000-01-01T00:00:00", "-0001-01-01T00:00:00"
+    })
+    @DisplayName("Writes the same text as Jackson's default LocalDateTime serializer")
+    void matchesJacksonDefault(String text) throws Exception {
+        LocalDateTime value = LocalDateTime.parse(text);
+
+        assertThat(lean.writeValueAsString(value)).isEqualTo(jacksonDefault.writeValueAsString(value));
+    }
+}
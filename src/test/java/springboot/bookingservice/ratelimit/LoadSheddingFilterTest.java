@@ -0,0 +1,170 @@
+package springboot.bookingservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setRequestsPerSecond(1);
+        properties.setBurst(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("client over its rate gets 429 with Retry-After while other clients pass")
+    void rateLimited_returns429() throws Exception {
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+
+        assertThat(call(filter, "GET", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "GET", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = call(filter, "GET", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("\"status\":429");
+        assertThat(call(filter, "GET", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("booking.requests.rejected").tag("reason", "rate_limit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("client ID header from an untrusted address does not get a fresh bucket")
+    void untrustedClientHeader_ignored() {
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+
+        assertThat(callWithClientId(filter, "10.0.0.1", "partner-a").getStatus()).isEqualTo(200);
+        assertThat(callWithClientId(filter, "10.0.0.1", "partner-b").getStatus()).isEqualTo(200);
+        assertThat(callWithClientId(filter, "10.0.0.1", "partner-c").getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("booking.ratelimit.clients").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("client ID header from a trusted proxy separates the clients behind it")
+    void trustedProxyClientHeader_honoured() {
+        properties.setTrustedProxies(Set.of("10.0.0.9"));
+        properties.setKnownClients(Set.of("partner-a", "partner-b"));
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+
+        assertThat(callWithClientId(filter, "10.0.0.9", "partner-a").getStatus()).isEqualTo(200);
+        assertThat(callWithClientId(filter, "10.0.0.9", "partner-a").getStatus()).isEqualTo(200);
+        assertThat(callWithClientId(filter, "10.0.0.9", "partner-a").getStatus()).isEqualTo(429);
+        assertThat(callWithClientId(filter, "10.0.0.9", "partner-b").getStatus()).isEqualTo(200);
+        // an unknown ID is charged to the proxy's own address
+        assertThat(callWithClientId(filter, "10.0.0.9", "partner-x").getStatus()).isEqualTo(200);
+        assertThat(callWithClientId(filter, "10.0.0.9", "partner-y").getStatus()).isEqualTo(200);
+        assertThat(callWithClientId(filter, "10.0.0.9", "partner-z").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("authenticated principal is keyed by name regardless of address")
+    void principal_keysBucket() {
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+
+        for (String address : List.of("10.0.0.1", "10.0.0.2")) {
+            MockHttpServletRequest request = request("GET", address);
+            request.setUserPrincipal(() -> "partner-a");
+            filter(filter, request);
+        }
+        MockHttpServletRequest request = request("GET", "10.0.0.3");
+        request.setUserPrincipal(() -> "partner-a");
+
+        assertThat(filter(filter, request).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("saturated expensive endpoint sheds load with 503")
+    void concurrencyLimited_returns503() throws Exception {
+        properties.setRequestsPerSecond(1000);
+        properties.setBurst(1000);
+        properties.getConcurrency().setInitialLimit(1);
+        properties.getConcurrency().setMinLimit(1);
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "10.0.0.1"), outer, (req, res) -> nested[0] = call(filter, "POST", "10.0.0.1"));
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested[0].getStatus()).isEqualTo(503);
+        assertThat(nested[0].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("booking.concurrency.limit").tag("endpoint", "create").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("concurrency limit shrinks when latency rises above the baseline")
+    void limiter_adaptsToLatency() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(50, 2, 200);
+        for (int i = 0; i < 20; i++) {
+            runConcurrently(limiter, 40, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int healthyLimit = limiter.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            runConcurrently(limiter, Math.max(1, limiter.getLimit()), TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        assertThat(healthyLimit).isGreaterThanOrEqualTo(50);
+        assertThat(limiter.getLimit()).isLessThan(healthyLimit / 2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static void runConcurrently(GradientConcurrencyLimiter limiter, int requests, long latencyNanos) {
+        int acquired = 0;
+        for (int i = 0; i < requests; i++) {
+            if (limiter.tryAcquire()) {
+                acquired++;
+            }
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+
+    private static MockHttpServletResponse call(LoadSheddingFilter filter, String method, String address) {
+        return filter(filter, request(method, address));
+    }
+
+    private static MockHttpServletResponse callWithClientId(LoadSheddingFilter filter, String address, String clientId) {
+        MockHttpServletRequest request = request("GET", address);
+        request.addHeader("X-Client-Id", clientId);
+        return filter(filter, request);
+    }
+
+    private static MockHttpServletResponse filter(LoadSheddingFilter filter, MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/bookings");
+        request.setRemoteAddr(address);
+        if ("GET".equals(method)) {
+            request.setParameter("status", "pending");
+        }
+        return request;
+    }
+}
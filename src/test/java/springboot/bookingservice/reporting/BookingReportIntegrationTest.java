@@ -0,0 +1,117 @@
+package springboot.bookingservice.reporting;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.repository.BookingRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reporting-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false",
+        "booking.reporting.fetch-size=2"
+})
+@AutoConfigureMockMvc
+class BookingReportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    void seed() {
+        if (bookingRepository.count() > 0) {
+            return;
+        }
+        save(LocalDateTime.of(2040, 2, 29, 23, 59), BookingStatus.PENDING, "card", "10.00");
+        save(LocalDateTime.of(2040, 3, 1, 0, 0), BookingStatus.PENDING, "card", "40.00");
+        save(LocalDateTime.of(2040, 3, 15, 12, 0), BookingStatus.PENDING, "card", "60.00");
+        save(LocalDateTime.of(2040, 3, 10, 9, 0), BookingStatus.CANCELLED, null, "1500.00");
+        save(LocalDateTime.of(2040, 3, 31, 23, 0), BookingStatus.CONFIRMED, "cash", "120.00");
+        save(LocalDateTime.of(2040, 4, 1, 0, 0), BookingStatus.CONFIRMED, "card", "999.00");
+    }
+
+    @Test
+    @DisplayName("Aggregates the bookings of the range by status, payment method and price range")
+    void revenue() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/reports/revenue")
+                        .param("from", "2040-03-01").param("to", "2040-04-01").param("parallelism", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partitions", is(12)))
+                .andExpect(jsonPath("$.parallelism", is(3)))
+                .andExpect(jsonPath("$.bookings", is(4)))
+                .andExpect(jsonPath("$.totalPrice", is(1720.0)))
+                .andExpect(jsonPath("$.groups[*].status", contains("CANCELLED", "CONFIRMED", "PENDING")))
+                .andExpect(jsonPath("$.groups[0].paymentMethod", nullValue()))
+                .andExpect(jsonPath("$.groups[2].paymentMethod", is("card")))
+                .andExpect(jsonPath("$.groups[2].count", is(2)))
+                .andExpect(jsonPath("$.groups[2].totalPrice", is(100.0)))
+                .andExpect(jsonPath("$.groups[2].averagePrice", is(50.0)))
+                .andExpect(jsonPath("$.groups[2].minPrice", is(40.0)))
+                .andExpect(jsonPath("$.groups[2].maxPrice", is(60.0)))
+                .andExpect(jsonPath("$.priceRanges", hasSize(6)))
+                .andExpect(jsonPath("$.priceRanges[*].count", contains(1, 1, 1, 0, 0, 1)))
+                .andExpect(jsonPath("$.priceRanges[5].min", is(1000)))
+                .andExpect(jsonPath("$.priceRanges[5].max", nullValue()));
+    }
+
+    @Test
+    @DisplayName("Gives the same totals whatever the parallelism, capped at the configured maximum")
+    void parallelism() throws Exception {
+        for (String parallelism : List.of("1", "2", "50")) {
+            mockMvc.perform(get("/api/v1/bookings/reports/revenue")
+                            .param("from", "2040-01-01").param("to", "2040-12-31").param("parallelism", parallelism))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.bookings", is(6)))
+                    .andExpect(jsonPath("$.totalPrice", is(2729.0)));
+        }
+        mockMvc.perform(get("/api/v1/bookings/reports/revenue")
+                        .param("from", "2040-01-01").param("to", "2040-12-31").param("parallelism", "50"))
+                .andExpect(jsonPath("$.parallelism", is(8)));
+    }
+
+    @Test
+    @DisplayName("Rejects empty or too long ranges and a parallelism below one")
+    void invalidRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/reports/revenue").param("from", "2040-03-01").param("to", "2040-03-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/bookings/reports/revenue").param("from", "2040-01-01").param("to", "2042-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/bookings/reports/revenue")
+                        .param("from", "2040-03-01").param("to", "2040-04-01").param("parallelism", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void save(LocalDateTime date, BookingStatus status, String paymentMethod, String price) {
+        bookingRepository.save(Booking.builder()
+                .userId(UUID.randomUUID())
+                .vehicleId(UUID.randomUUID())
+                .bookingDate(date)
+                .status(status)
+                .paymentMethod(paymentMethod)
+                .serviceIds(List.of(UUID.randomUUID()))
+                .totalPrice(new BigDecimal(price))
+                .build());
+    }
+}
@@ -0,0 +1,48 @@
+package springboot.bookingservice.retention;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkThrottleTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(300).toNanos();
+
+    private final ChunkThrottle throttle =
+            new ChunkThrottle(10, 400, Duration.ofMillis(100), Duration.ofMillis(50));
+
+    @Test
+    @DisplayName("Fast chunks grow the chunk size up to the maximum")
+    void growsWhileFast() {
+        assertThat(throttle.chunkSize()).isEqualTo(100);
+
+        for (int i = 0; i < 20; i++) {
+            throttle.record(FAST);
+        }
+
+        assertThat(throttle.chunkSize()).isEqualTo(400);
+        assertThat(throttle.pauseNanos()).isEqualTo(Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    @DisplayName("Slow chunks halve the chunk size, down to the minimum, and pause for the overrun")
+    void backsOffWhenSlow() {
+        throttle.record(SLOW);
+
+        assertThat(throttle.chunkSize()).isEqualTo(50);
+        assertThat(throttle.pauseNanos()).isEqualTo(Duration.ofMillis(250).toNanos());
+
+        for (int i = 0; i < 10; i++) {
+            throttle.record(SLOW);
+        }
+        assertThat(throttle.chunkSize()).isEqualTo(10);
+
+        throttle.record(FAST);
+        assertThat(throttle.chunkSize()).isEqualTo(12);
+        assertThat(throttle.pauseNanos()).isEqualTo(Duration.ofMillis(50).toNanos());
+    }
+}
@@ -0,0 +1,182 @@
+package springboot.bookingservice.retention;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import springboot.bookingservice.event.BookingChangedEvent;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.repository.BookingRepository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:retention-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.retention.enabled=true",
+        "booking.retention.cron=-",
+        "booking.retention.min-chunk-size=2",
+        "booking.retention.max-chunk-size=3",
+        "booking.retention.pause=0ms",
+        "booking.retention.latency-target=5s"
+})
+@RecordApplicationEvents
+class RetentionPurgeIntegrationTest {
+
+    private static final int OLD_ARCHIVED = 7;
+
+    @Autowired
+    private RetentionPurgeJob purgeJob;
+
+    @Autowired
+    private RetentionProperties properties;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("drop table if exists retention_checkpoints");
+        jdbcTemplate.update("delete from booking_services");
+        jdbcTemplate.update("delete from bookings");
+
+        LocalDateTime old = LocalDateTime.now().minusYears(8);
+        for (int i = 0; i < OLD_ARCHIVED; i++) {
+            save(BookingStatus.ARCHIVED, old.plusMinutes(i % 3));
+        }
+        save(BookingStatus.ARCHIVED, LocalDateTime.now().minusYears(1));
+        save(BookingStatus.PENDING, old);
+    }
+
+    @Test
+    @DisplayName("Purges archived bookings past retention with their services, and nothing else")
+    void purgesExpiredArchivedBookings() {
+        List<PurgeReport> reports = purgeJob.purge();
+
+        assertThat(reports).singleElement().satisfies(report -> {
+            assertThat(report.status()).isEqualTo(BookingStatus.ARCHIVED);
+            assertThat(report.bookings()).isEqualTo(OLD_ARCHIVED);
+            assertThat(report.serviceRows()).isEqualTo(OLD_ARCHIVED * 2L);
+            assertThat(report.completed()).isTrue();
+            assertThat(report.rowsPerSecond()).isPositive();
+        });
+        assertThat(bookingRepository.findAll()).extracting(Booking::getStatus)
+                .containsExactlyInAnyOrder(BookingStatus.ARCHIVED, BookingStatus.PENDING);
+        assertThat(count("booking_services")).isEqualTo(4);
+        assertThat(meterRegistry.get("booking.retention.rate").gauge().value()).isPositive();
+        assertThat(purgedCheckpoint()).isEqualTo(OLD_ARCHIVED);
+    }
+
+    @Test
+    @DisplayName("A run stopped at its time limit resumes from the checkpoint after a restart")
+    void resumesFromCheckpoint() {
+        RetentionProperties limited = new RetentionProperties();
+        limited.setMinChunkSize(2);
+        limited.setMaxChunkSize(3);
+        limited.setPause(Duration.ZERO);
+        limited.setLatencyTarget(properties.getLatencyTarget());
+        limited.setMaxRunTime(Duration.ZERO);
+
+        PurgeReport first = job(limited).purge().get(0);
+        assertThat(first.completed()).isFalse();
+        assertThat(first.bookings()).isEqualTo(2);
+        assertThat(purgedCheckpoint()).isEqualTo(2);
+
+        limited.setMaxRunTime(Duration.ofMinutes(1));
+        PurgeReport second = job(limited).purge().get(0);
+        assertThat(second.completed()).isTrue();
+        assertThat(second.bookings()).isEqualTo(OLD_ARCHIVED - 2);
+        assertThat(count("bookings")).isEqualTo(2);
+        assertThat(purgedCheckpoint()).isEqualTo(OLD_ARCHIVED);
+    }
+
+    @Test
+    @DisplayName("Announces every purged booking, and only those, as a deletion")
+    void publishesDeletions() {
+        List<UUID> expired = jdbcTemplate.queryForList(
+                "select id from bookings where status = 'ARCHIVED' and updated_at < ?", UUID.class,
+                LocalDateTime.now().minusYears(7));
+
+        purgeJob.purge();
+
+        assertThat(events.stream(BookingChangedEvent.class)).allSatisfy(event -> {
+            assertThat(event.isDeletion()).isTrue();
+            assertThat(event.previousStatus()).isEqualTo(BookingStatus.ARCHIVED);
+            assertThat(event.userId()).isNotNull();
+        }).extracting(BookingChangedEvent::bookingId).containsExactlyInAnyOrderElementsOf(expired);
+    }
+
+    @Test
+    @DisplayName("Rejects policies for statuses still shown by the change feed or the calendar")
+    void rejectsVisibleStatuses() {
+        RetentionProperties completed = new RetentionProperties();
+        completed.setPolicies(Map.of(BookingStatus.COMPLETED, Period.ofYears(1)));
+
+        assertThatThrownBy(() -> job(completed))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("COMPLETED");
+    }
+
+    private RetentionPurgeJob job(RetentionProperties retention) {
+        return new RetentionPurgeJob(dataSource, transactionManager, retention, List.of(), eventPublisher,
+                new SimpleMeterRegistry());
+    }
+
+    private void save(BookingStatus status, LocalDateTime updatedAt) {
+        Booking booking = bookingRepository.save(Booking.builder()
+                .userId(UUID.randomUUID())
+                .vehicleId(UUID.randomUUID())
+                .bookingDate(updatedAt.minusDays(1))
+                .status(status)
+                .serviceIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .totalPrice(new BigDecimal("20.00"))
+                .build());
+        jdbcTemplate.update("update bookings set updated_at = ? where id = ?", updatedAt, booking.getId());
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private long purgedCheckpoint() {
+        return jdbcTemplate.queryForObject("select purged from retention_checkpoints where policy = 'ARCHIVED'",
+                Long.class);
+    }
+}
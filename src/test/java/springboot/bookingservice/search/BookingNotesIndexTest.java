@@ -0,0 +1,85 @@
+package springboot.bookingservice.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingNotesIndexTest {
+
+    private final JdbcTemplate database = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:notes-index-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"));
+
+    private final BookingNotesIndex index = new BookingNotesIndex(List.of(database));
+
+    @BeforeEach
+    void createTable() {
+        database.execute("create table bookings (id uuid primary key, additional_notes varchar(255))");
+    }
+
+    @AfterEach
+    void shutdown() {
+        database.execute("shutdown");
+    }
+
+    @Test
+    @DisplayName("Tokenizer lower-cases, splits on punctuation and drops one-letter words")
+    void tokenize() {
+        assertThat(BookingNotesIndex.tokenize("Please fit a ROOF-rack, 2x!"))
+                .containsExactly("please", "fit", "roof", "rack", "2x");
+        assertThat(BookingNotesIndex.tokenize("owner\u2019s caf\u00e9")).containsExactly("owner", "caf\u00e9");
+    }
+
+    @Test
+    @DisplayName("Search returns bookings containing every query term, including those written before it started")
+    void searchRequiresAllTerms() {
+        UUID a = insert("Roof rack and winter tyres");
+        index.initialize();
+        UUID b = insert("Winter tyres only");
+
+        assertThat(index.search("winter tyres", 10)).containsExactlyInAnyOrder(a, b);
+        assertThat(index.search("Tyres, ROOF", 10)).containsExactly(a);
+        assertThat(index.search("roof trailer", 10)).isEmpty();
+        assertThat(index.search("winterised", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Rows written or deleted by any connection are reflected without events")
+    void followsTheDatabase() {
+        index.initialize();
+        UUID a = insert("Check the roof box");
+        UUID b = insert("Roof leaks");
+
+        database.update("delete from bookings where id = ?", a);
+
+        assertThat(index.search("roof", 10)).containsExactly(b);
+    }
+
+    @Test
+    @DisplayName("Search defers to the database when the query is unindexable, too broad or the index is missing")
+    void searchFallsBack() {
+        insert("wash");
+        insert("wash");
+
+        assertThat(index.search("wash", 10)).isNull();
+
+        index.initialize();
+        index.initialize();
+        assertThat(index.search("a", 10)).isNull();
+        assertThat(index.search("wash", 1)).isNull();
+        assertThat(index.search("wash", 2)).hasSize(2);
+    }
+
+    private UUID insert(String notes) {
+        UUID id = UUID.randomUUID();
+        database.update("insert into bookings (id, additional_notes) values (?, ?)", id, notes);
+        return id;
+    }
+}
@@ -0,0 +1,144 @@
+package springboot.bookingservice.search;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.service.BookingService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false",
+        "booking.search.max-index-matches=2"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingSearchIntegrationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 10, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    private final UUID vehicleId = UUID.randomUUID();
+
+    @BeforeAll
+    void seed() {
+        create("+100", vehicleId, BASE, "Roof rack fitting");
+        create("+100", vehicleId, BASE.plusDays(1), "Winter tyres and roof box");
+        create("+100", UUID.randomUUID(), BASE.plusDays(2), "Winter tyres");
+        create("+200", vehicleId, BASE.plusDays(3), "Winter tyres");
+        create("+200", UUID.randomUUID(), BASE.plusDays(4), null);
+        create("+300", UUID.randomUUID(), BASE.plusDays(5), "Winterised wipers, roofbox");
+    }
+
+    @Test
+    @DisplayName("Combines phone, vehicle and date range filters, newest first")
+    void structuredFilters() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/search")
+                        .param("phoneNumber", "+100")
+                        .param("vehicleId", vehicleId.toString())
+                        .param("from", BASE.toString())
+                        .param("to", BASE.plusDays(5).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(2)))
+                .andExpect(jsonPath("$.bookings[*].additionalNotes",
+                        contains("Winter tyres and roof box", "Roof rack fitting")));
+    }
+
+    @Test
+    @DisplayName("Matches note terms through the index and falls back to LIKE for broad terms")
+    void notesSearch() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/search").param("notes", "ROOF"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(2)));
+
+        // "winter" matches three bookings, above max-index-matches
+        mockMvc.perform(get("/api/v1/bookings/search").param("notes", "winter tyres").param("phoneNumber", "+100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(2)));
+    }
+
+    @Test
+    @DisplayName("Matches whole words on both sides of max-index-matches")
+    void notesSearch_wholeWordsOnBothPaths() throws Exception {
+        // two bookings: resolved by the index, which does not match "roofbox"
+        mockMvc.perform(get("/api/v1/bookings/search").param("notes", "roof"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(2)));
+
+        // three bookings: filtered in the database, which must not match "Winterised" either
+        mockMvc.perform(get("/api/v1/bookings/search").param("notes", "winter"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(3)));
+    }
+
+    @Test
+    @DisplayName("Treats LIKE wildcards in short note queries literally")
+    void notesSearch_wildcardsMatchThemselves() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/search").param("notes", "%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(0)));
+        mockMvc.perform(get("/api/v1/bookings/search").param("notes", "_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(0)));
+    }
+
+    @Test
+    @DisplayName("Pages results and filters by several statuses")
+    void pagingAndStatuses() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/search")
+                        .param("status", "pending", "CONFIRMED")
+                        .param("page", "1")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings", hasSize(2)))
+                .andExpect(jsonPath("$.page", is(1)))
+                .andExpect(jsonPath("$.totalPages", is(3)));
+    }
+
+    @Test
+    @DisplayName("Rejects unknown statuses and inverted date ranges")
+    void invalidCriteria() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/search").param("status", "LOST"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/bookings/search")
+                        .param("from", BASE.plusDays(1).toString())
+                        .param("to", BASE.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void create(String phoneNumber, UUID vehicle, LocalDateTime date, String notes) {
+        bookingService.createBooking(BookingRequest.builder()
+                .userId(UUID.randomUUID())
+                .bookingDate(date)
+                .vehicleId(vehicle)
+                .serviceIds(List.of(UUID.randomUUID()))
+                .additionalNotes(notes)
+                .paymentMethod("CARD")
+                .phoneNumber(phoneNumber)
+                .totalPrice(new BigDecimal("50.00"))
+                .build());
+    }
+}
@@ -0,0 +1,97 @@
+package springboot.bookingservice.service;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.enrichment.EnrichmentProperties;
+import springboot.bookingservice.enrichment.UpstreamGuard;
+import springboot.bookingservice.model.Booking;
+import springboot.bookingservice.model.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class BookingEnricherTest {
+
+    private final AtomicInteger vehicleLookups = new AtomicInteger();
+    private final AtomicInteger serviceLookups = new AtomicInteger();
+
+    private final BookingEnricher enricher = new BookingEnricher(ObservationRegistry.NOOP,
+            vehicleId -> "Vehicle " + vehicleLookups.incrementAndGet(),
+            serviceIds -> serviceIds.size() + " Service(s) " + serviceLookups.incrementAndGet(),
+            UpstreamGuard.NONE, UpstreamGuard.NONE, new EnrichmentProperties());
+
+    @Test
+    @DisplayName("Without expansions no lookup runs and the names are left out")
+    void noExpansion_skipsLookups() {
+        List<BookingResponse> responses = enricher.enrichAndMap(List.of(booking(UUID.randomUUID(), List.of())),
+                Expansion.NONE);
+
+        assertThat(responses).singleElement().satisfies(response -> {
+            assertThat(response.vehicleDescription()).isNull();
+            assertThat(response.serviceNames()).isNull();
+            assertThat(response.partial()).isNull();
+        });
+        assertThat(vehicleLookups).hasValue(0);
+        assertThat(serviceLookups).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Looks up each distinct vehicle and set of services once per list")
+    void expansion_looksUpOncePerDistinctId() {
+        UUID car = UUID.randomUUID();
+        UUID van = UUID.randomUUID();
+        List<UUID> services = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<Booking> bookings = List.of(
+                booking(car, services), booking(car, new ArrayList<>(services)), booking(van, services));
+
+        List<BookingResponse> responses = enricher.enrichAndMap(bookings, Expansion.ALL);
+
+        assertThat(vehicleLookups).hasValue(2);
+        assertThat(serviceLookups).hasValue(1);
+        assertThat(responses).extracting(BookingResponse::vehicleDescription)
+                .containsExactly("Vehicle 1", "Vehicle 1", "Vehicle 2");
+        assertThat(responses).extracting(BookingResponse::serviceNames).containsOnly("2 Service(s) 1");
+    }
+
+    @Test
+    @DisplayName("Runs only the requested lookup")
+    void singleExpansion() {
+        List<BookingResponse> responses = enricher.enrichAndMap(
+                List.of(booking(UUID.randomUUID(), List.of(UUID.randomUUID()))), Set.of(Expansion.SERVICES));
+
+        assertThat(responses.get(0).vehicleDescription()).isNull();
+        assertThat(responses.get(0).serviceNames()).isEqualTo("1 Service(s) 1");
+        assertThat(vehicleLookups).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Parses expansions case-insensitively and rejects unknown names")
+    void parse() {
+        assertThat(Expansion.parse(null)).isEmpty();
+        assertThat(Expansion.parse(" Vehicle , services,")).isEqualTo(Expansion.ALL);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Expansion.parse("vehicle,owner"));
+    }
+
+    private static Booking booking(UUID vehicleId, List<UUID> serviceIds) {
+        return Booking.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .vehicleId(vehicleId)
+                .bookingDate(LocalDateTime.now())
+                .status(BookingStatus.PENDING)
+                .serviceIds(serviceIds)
+                .totalPrice(BigDecimal.TEN)
+                .build();
+    }
+}
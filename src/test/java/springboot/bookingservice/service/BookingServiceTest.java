@@ -7,10 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
+import springboot.bookingservice.datasource.DataSourceRoutingContext;
+import springboot.bookingservice.datasource.ReadYourWritesTracker;
 import springboot.bookingservice.dto.BookingRequest;
 import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.event.BookingChangedEvent;
 import springboot.bookingservice.model.Booking;
 import springboot.bookingservice.model.BookingStatus;
 import springboot.bookingservice.repository.BookingRepository;
@@ -21,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,6 +40,15 @@ class BookingServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private BookingEnricher bookingEnricher = new BookingEnricher();
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -71,6 +86,24 @@ class BookingServiceTest {
         assertThat(saved.getStatus()).isEqualTo(BookingStatus.PENDING);
         assertThat(saved.getServiceIds()).hasSize(2);
         assertThat(saved.getTotalPrice()).isEqualByComparingTo("99.99");
+        verify(readYourWritesTracker).recordWrite(userId);
+    }
+
+    @Test
+    @DisplayName("getBookingsByUser reads from the primary right after the user wrote")
+    void getBookingsByUser_recentWrite_forcesPrimary() {
+        UUID uid = UUID.randomUUID();
+        AtomicBoolean primaryForced = new AtomicBoolean();
+        when(readYourWritesTracker.requiresPrimary(uid)).thenReturn(true);
+        when(bookingRepository.findByUserId(uid)).thenAnswer(invocation -> {
+            primaryForced.set(DataSourceRoutingContext.isPrimaryForced());
+            return Collections.emptyList();
+        });
+
+        bookingService.getBookingsByUser(uid, Expansion.NONE);
+
+        assertThat(primaryForced).isTrue();
+        assertThat(DataSourceRoutingContext.isPrimaryForced()).isFalse();
     }
 
     @Test
@@ -79,11 +112,11 @@ class BookingServiceTest {
         UUID uid = UUID.randomUUID();
         when(bookingRepository.findByUserId(uid)).thenReturn(Collections.emptyList());
 
-        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByUser(uid);
+        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByUser(uid, Expansion.NONE);
 
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().getBookings()).isEmpty();
+        assertThat(response.getBody().bookings()).isEmpty();
     }
 
     @Test
@@ -101,18 +134,18 @@ class BookingServiceTest {
                 .build();
         when(bookingRepository.findByUserId(uid)).thenReturn(List.of(b));
 
-        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByUser(uid);
+        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByUser(uid, Expansion.ALL);
 
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().getBookings()).hasSize(1);
-        assertThat(response.getBody().getBookings().get(0).getVehicleDescription()).startsWith("Vehicle ");
+        assertThat(response.getBody().bookings()).hasSize(1);
+        assertThat(response.getBody().bookings().get(0).vehicleDescription()).startsWith("Vehicle ");
     }
 
     @Test
     @DisplayName("getBookingsByStatus returns 400 for invalid status")
     void getBookingsByStatus_invalid() {
-        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByStatus("nope");
+        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByStatus("nope", Expansion.NONE);
         assertThat(response.getStatusCode().is4xxClientError()).isTrue();
     }
 
@@ -130,12 +163,12 @@ class BookingServiceTest {
                 .build();
         when(bookingRepository.findByStatus(BookingStatus.CANCELLED)).thenReturn(List.of(b));
 
-        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByStatus("cancelled");
+        ResponseEntity<GetBookingResponse> response = bookingService.getBookingsByStatus("cancelled", Expansion.ALL);
 
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().getBookings()).hasSize(1);
-        assertThat(response.getBody().getBookings().get(0).getServiceNames()).contains("Service(s) Selected");
+        assertThat(response.getBody().bookings()).hasSize(1);
+        assertThat(response.getBody().bookings().get(0).serviceNames()).contains("Service(s) Selected");
     }
 
     @Test
@@ -149,6 +182,7 @@ class BookingServiceTest {
 
         assertThat(existing.getStatus()).isEqualTo(BookingStatus.CANCELLED);
         verify(bookingRepository).save(existing);
+        verify(eventPublisher).publishEvent(new BookingChangedEvent(id, null, BookingStatus.CONFIRMED, BookingStatus.CANCELLED));
     }
 
     @Test
@@ -0,0 +1,66 @@
+package springboot.bookingservice.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    @DisplayName("keys are spread roughly evenly and deterministically over the shards")
+    void distribution_isEven() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        ConsistentHashRing rebuilt = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < KEYS; i++) {
+            UUID key = new UUID(random.nextLong(), random.nextLong());
+            String shard = ring.shardFor(key);
+            assertThat(rebuilt.shardFor(key)).isEqualTo(shard);
+            counts.merge(shard, 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys("a", "b", "c", "d");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(KEYS / 4 * 7 / 10, KEYS / 4 * 13 / 10));
+    }
+
+    @Test
+    @DisplayName("adding a shard only moves keys onto the new shard")
+    void addingShard_movesMinimalKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d", "e"), 128);
+        Random random = new Random(7);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            UUID key = new UUID(random.nextLong(), random.nextLong());
+            String oldOwner = before.shardFor(key);
+            String newOwner = after.shardFor(key);
+            if (!oldOwner.equals(newOwner)) {
+                moved++;
+                assertThat(newOwner).isEqualTo("e");
+            }
+        }
+
+        assertThat(moved).isBetween(KEYS / 10, KEYS * 3 / 10);
+    }
+
+    @Test
+    @DisplayName("ring rejects empty shard lists and null keys")
+    void invalidInput_rejected() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 16))
+                .isInstanceOf(IllegalArgumentException.class);
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a"), 16);
+        assertThatThrownBy(() -> ring.shardFor(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
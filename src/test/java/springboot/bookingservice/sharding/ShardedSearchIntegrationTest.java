@@ -0,0 +1,80 @@
+package springboot.bookingservice.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.dto.SearchBookingResponse;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.search.BookingSearchCriteria;
+import springboot.bookingservice.search.BookingSearchService;
+import springboot.bookingservice.service.BookingService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "booking.sharding.enabled=true",
+        "booking.sharding.ring=shard-a,shard-b",
+        "booking.sharding.shards[0].name=shard-a",
+        "booking.sharding.shards[0].url=jdbc:h2:mem:sharded-search-a;DB_CLOSE_DELAY=-1",
+        "booking.sharding.shards[1].name=shard-b",
+        "booking.sharding.shards[1].url=jdbc:h2:mem:sharded-search-b;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false"
+})
+class ShardedSearchIntegrationTest {
+
+    private static final int BOOKINGS = 12;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingSearchService searchService;
+
+    @Autowired
+    private ConsistentHashRing ring;
+
+    @Test
+    @DisplayName("Search pages are gathered from every shard in booking date order")
+    void pagesAcrossShards() {
+        LocalDateTime base = LocalDateTime.now().plusDays(30).withNano(0);
+        List<UUID> owners = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            UUID userId = UUID.randomUUID();
+            owners.add(userId);
+            bookingService.createBooking(BookingRequest.builder()
+                    .userId(userId)
+                    .bookingDate(base.plusHours(i))
+                    .serviceIds(List.of(UUID.randomUUID()))
+                    .vehicleId(UUID.randomUUID())
+                    .phoneNumber("+44 20 7946 0000")
+                    .totalPrice(new BigDecimal("30.00"))
+                    .build());
+        }
+        assertThat(owners).extracting(ring::shardFor).contains("shard-a", "shard-b");
+
+        BookingSearchCriteria criteria = new BookingSearchCriteria("+44 20 7946 0000", null, null, null,
+                List.of(BookingStatus.PENDING), null);
+        List<BookingResponse> seen = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            SearchBookingResponse response = searchService.search(criteria, page, 5).getBody();
+            assertThat(response.totalElements()).isEqualTo(BOOKINGS);
+            assertThat(response.totalPages()).isEqualTo(3);
+            assertThat(response.bookings()).hasSize(page < 2 ? 5 : 2);
+            seen.addAll(response.bookings());
+        }
+
+        assertThat(seen).extracting(BookingResponse::userId).containsExactlyInAnyOrderElementsOf(owners);
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(BookingResponse::bookingDate).reversed());
+    }
+}
@@ -0,0 +1,107 @@
+package springboot.bookingservice.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import springboot.bookingservice.dto.BookingRequest;
+import springboot.bookingservice.dto.BookingResponse;
+import springboot.bookingservice.dto.GetBookingResponse;
+import springboot.bookingservice.model.BookingStatus;
+import springboot.bookingservice.service.BookingService;
+import springboot.bookingservice.service.Expansion;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "booking.sharding.enabled=true",
+        "booking.sharding.ring=shard-a,shard-b",
+        "booking.sharding.shards[0].name=shard-a",
+        "booking.sharding.shards[0].url=jdbc:h2:mem:sharding-test-a;DB_CLOSE_DELAY=-1",
+        "booking.sharding.shards[1].name=shard-b",
+        "booking.sharding.shards[1].url=jdbc:h2:mem:sharding-test-b;DB_CLOSE_DELAY=-1",
+        "booking.sharding.shards[2].name=shard-c",
+        "booking.sharding.shards[2].url=jdbc:h2:mem:sharding-test-c;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class ShardingIntegrationTest {
+
+    private static final int USERS = 40;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ShardRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ConsistentHashRing ring;
+
+    @Autowired
+    private ReshardingTool reshardingTool;
+
+    @Test
+    @DisplayName("bookings are stored on their user's shard and read back by user, status and ID")
+    void routesScattersAndReshards() {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            UUID userId = UUID.randomUUID();
+            users.add(userId);
+            bookingService.createBooking(request(userId, LocalDateTime.now().plusDays(1 + (i * 7L) % USERS)));
+        }
+
+        for (UUID userId : users) {
+            String owner = ring.shardFor(userId);
+            assertThat(count("shard-a", userId) + count("shard-b", userId)).isEqualTo(1);
+            assertThat(count(owner, userId)).isEqualTo(1);
+
+            List<BookingResponse> own = bookingService.getBookingsByUser(userId, Expansion.NONE).getBody().bookings();
+            assertThat(own).hasSize(1);
+            assertThat(own.get(0).serviceIds()).hasSize(2);
+        }
+        assertThat(new JdbcTemplate(routingDataSource.shard("shard-c"))
+                .queryForObject("select count(*) from bookings", Long.class)).isZero();
+
+        GetBookingResponse pending = bookingService.getBookingsByStatus("pending", Expansion.NONE).getBody();
+        assertThat(pending.bookings()).hasSize(USERS);
+        assertThat(pending.bookings()).isSortedAccordingTo(Comparator.comparing(BookingResponse::bookingDate));
+
+        UUID cancelled = pending.bookings().get(3).id();
+        bookingService.cancelBooking(cancelled);
+        assertThat(bookingService.getBookingsByStatus("cancelled", Expansion.NONE).getBody().bookings())
+                .extracting(BookingResponse::id).containsExactly(cancelled);
+
+        ReshardingReport report = reshardingTool.copyAndVerify(List.of("shard-a", "shard-b", "shard-c"));
+        ConsistentHashRing target = new ConsistentHashRing(List.of("shard-a", "shard-b", "shard-c"), 128);
+        long expectedMoved = users.stream().filter(userId -> target.shardFor(userId).equals("shard-c")).count();
+        assertThat(report.verified()).isTrue();
+        assertThat(report.scanned()).isEqualTo(USERS);
+        assertThat(report.moved()).isEqualTo(expectedMoved).isPositive();
+        for (UUID userId : users) {
+            assertThat(count(target.shardFor(userId), userId)).isEqualTo(1);
+        }
+    }
+
+    private long count(String shard, UUID userId) {
+        return new JdbcTemplate(routingDataSource.shard(shard))
+                .queryForObject("select count(*) from bookings where user_id = ?", Long.class, userId);
+    }
+
+    private static BookingRequest request(UUID userId, LocalDateTime date) {
+        return BookingRequest.builder()
+                .userId(userId)
+                .bookingDate(date)
+                .serviceIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .vehicleId(UUID.randomUUID())
+                .totalPrice(new BigDecimal("25.00"))
+                .build();
+    }
+}
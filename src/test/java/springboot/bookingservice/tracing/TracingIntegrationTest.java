@@ -0,0 +1,122 @@
+package springboot.bookingservice.tracing;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tracing-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "booking.rate-limit.enabled=false",
+        "booking.coalescing.enabled=false",
+        "management.tracing.sampling.probability=1.0"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+@ExtendWith(OutputCaptureExtension.class)
+class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @TestConfiguration
+    static class ExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @BeforeEach
+    void reset() {
+        finishedSpans();
+        exporter.reset();
+    }
+
+    @Test
+    @DisplayName("A list call yields controller, service, repository and enrichment spans in one trace")
+    void listCallSpans() throws Exception {
+        UUID userId = UUID.randomUUID();
+        mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingJson(userId)))
+                .andExpect(status().isOk());
+        reset();
+
+        mockMvc.perform(get("/api/v1/bookings").param("userId", userId.toString()).param("expand", "vehicle,services")
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isOk());
+
+        List<SpanData> spans = finishedSpans();
+        assertThat(spans).allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(TRACE_ID));
+        assertThat(spans).extracting(SpanData::getName).contains(
+                "http get /api/v1/bookings", "booking-service get-by-user", "booking-repository find-by-user-id",
+                "booking-enrichment vehicle", "booking-enrichment services");
+
+        SpanData repository = span(spans, "booking-repository find-by-user-id");
+        assertThat(repository.getAttributes().get(stringKey("db.rows"))).isEqualTo("1");
+        assertThat(repository.getParentSpanId()).isEqualTo(span(spans, "booking-service get-by-user").getSpanId());
+    }
+
+    @Test
+    @DisplayName("Log lines carry the current trace ID")
+    void traceIdInLogs(CapturedOutput output) throws Exception {
+        mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingJson(UUID.randomUUID()))
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isOk());
+
+        assertThat(output.getOut().lines().filter(line -> line.contains("Booking created with ID")))
+                .anySatisfy(line -> assertThat(line).contains(TRACE_ID));
+        assertThat(finishedSpans()).extracting(SpanData::getName).contains("booking-repository save");
+    }
+
+    private List<SpanData> finishedSpans() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        return exporter.getFinishedSpanItems();
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream().filter(s -> s.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static String bookingJson(UUID userId) {
+        return """
+                {"userId":"%s","bookingDate":"2030-01-01T10:00:00","serviceIds":["%s"],
+                 "vehicleId":"%s","paymentMethod":"CARD","totalPrice":10.00}
+                """.formatted(userId, UUID.randomUUID(), UUID.randomUUID());
+    }
+}